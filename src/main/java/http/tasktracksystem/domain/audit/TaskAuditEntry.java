@@ -0,0 +1,19 @@
+package http.tasktracksystem.domain.audit;
+
+import java.time.Instant;
+
+/**
+ * One changed field of a task, values are stored as text.
+ *
+ * @param version Version of the task after the change.
+ */
+public record TaskAuditEntry(
+        Long taskId,
+        Long version,
+        String field,
+        String oldValue,
+        String newValue,
+        String changedBy,
+        Instant changedAt
+) {
+}
@@ -0,0 +1,210 @@
+package http.tasktracksystem.domain.audit;
+
+import http.tasktracksystem.domain.enums.AuditOverflowPolicy;
+import http.tasktracksystem.domain.events.TaskFieldsChangedEvent;
+import http.tasktracksystem.domain.repositories.TaskAuditRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diffs of committed task updates are put to a bounded buffer by request threads and written by one writer thread
+ * as multi-row inserts, when batchSize entries are collected or flushInterval after the first of them passed.
+ * Entries buffered at the time of a crash are lost, the audit is not part of the task transaction.
+ */
+@Slf4j
+@Component
+public class TaskAuditLog {
+
+    private static final String WRITER_NAME = "task-audit-writer";
+
+    private final TaskAuditRepository taskAuditRepository;
+    private final BlockingQueue<TaskAuditEntry> buffer;
+    private final ExecutorService writer;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalInMils;
+    private final long offerTimeoutInMils;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer flushes;
+    private final Timer lag;
+    private final DistributionSummary batches;
+    private volatile boolean running = true;
+
+    public TaskAuditLog(TaskAuditRepository taskAuditRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${audit.bufferSize:10000}") int bufferSize,
+                        @Value("${audit.batchSize:500}") int batchSize,
+                        @Value("${audit.flushIntervalInMils:1000}") long flushIntervalInMils,
+                        @Value("${audit.overflowPolicy:DROP_NEWEST}") AuditOverflowPolicy overflowPolicy,
+                        @Value("${audit.offerTimeoutInMils:50}") long offerTimeoutInMils) {
+        this.taskAuditRepository = taskAuditRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.flushIntervalInMils = flushIntervalInMils;
+        this.offerTimeoutInMils = offerTimeoutInMils;
+
+        Gauge.builder("audit.buffer.size", this.buffer, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.dropped")
+                .description("Audit entries dropped because of full buffer")
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.written")
+                .description("Audit entries written")
+                .register(meterRegistry);
+        this.failed = Counter.builder("audit.failed")
+                .description("Audit entries lost because of failed batch insert")
+                .register(meterRegistry);
+        this.flushes = Timer.builder("audit.flush")
+                .description("Duration of audit batch inserts")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.lag = Timer.builder("audit.lag")
+                .description("Time from commit of the change to insert of its audit entry")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batches = DistributionSummary.builder("audit.batch.size")
+                .description("Audit entries per batch insert")
+                .register(meterRegistry);
+
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WRITER_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writer.execute(this::writeBatches);
+    }
+
+    /**
+     * Rolled back changes are never audited. User is taken from security context of the request.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskFieldsChanged(TaskFieldsChangedEvent event) {
+        List<TaskAuditEntry> entries = event.before().diff(event.after(), event.taskId(), event.version(),
+                currentUsername(), event.changedAt());
+        entries.forEach(this::offer);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // writer drains the buffer before it stops
+        this.running = false;
+        this.writer.shutdown();
+        if (!this.writer.awaitTermination(this.flushIntervalInMils + TimeUnit.SECONDS.toMillis(10), TimeUnit.MILLISECONDS)) {
+            log.warn("Audit writer did not stop in time, {} entries are lost.", this.buffer.size());
+            this.writer.shutdownNow();
+        }
+    }
+
+    private void offer(TaskAuditEntry entry) {
+        boolean added = switch (this.overflowPolicy) {
+            case DROP_NEWEST -> this.buffer.offer(entry);
+            case DROP_OLDEST -> offerDroppingOldest(entry);
+            case BLOCK -> offerWaiting(entry);
+        };
+        if (!added) {
+            this.dropped.increment();
+        }
+    }
+
+    private boolean offerDroppingOldest(TaskAuditEntry entry) {
+        while (!this.buffer.offer(entry)) {
+            if (this.buffer.poll() != null) {
+                this.dropped.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean offerWaiting(TaskAuditEntry entry) {
+        try {
+            return this.buffer.offer(entry, this.offerTimeoutInMils, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeBatches() {
+        List<TaskAuditEntry> batch = new ArrayList<>(this.batchSize);
+        while (this.running || !this.buffer.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first entry up to flushInterval, then collects more until batchSize or flushInterval after the first.
+     */
+    private void collectBatch(List<TaskAuditEntry> batch) throws InterruptedException {
+        TaskAuditEntry first = this.buffer.poll(this.flushIntervalInMils, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.flushIntervalInMils);
+        while (batch.size() < this.batchSize) {
+            this.buffer.drainTo(batch, this.batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= this.batchSize || remaining <= 0 || !this.running) {
+                return;
+            }
+            TaskAuditEntry next = this.buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<TaskAuditEntry> batch) {
+        try {
+            this.flushes.record(() -> this.taskAuditRepository.insertAll(batch));
+            this.written.increment(batch.size());
+            this.batches.record(batch.size());
+            Instant now = Instant.now();
+            batch.forEach(entry -> this.lag.record(Duration.between(entry.changedAt(), now)));
+        } catch (RuntimeException e) {
+            log.error("Audit batch of {} entries could not be written.", batch.size(), e);
+            this.failed.increment(batch.size());
+        }
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
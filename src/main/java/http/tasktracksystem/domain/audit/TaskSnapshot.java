@@ -0,0 +1,63 @@
+package http.tasktracksystem.domain.audit;
+
+import http.tasktracksystem.domain.entities.TaskEntity;
+import http.tasktracksystem.domain.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Audited fields of a task, associations as IDs read from proxies without initializing them.
+ */
+public record TaskSnapshot(
+        String title,
+        String description,
+        TaskStatus status,
+        Long createdById,
+        Long assignedToId,
+        Long taskGroupId
+) {
+    private static final List<Field> FIELDS = List.of(
+            new Field("title", TaskSnapshot::title),
+            new Field("description", TaskSnapshot::description),
+            new Field("status", TaskSnapshot::status),
+            new Field("createdById", TaskSnapshot::createdById),
+            new Field("assignedToId", TaskSnapshot::assignedToId),
+            new Field("taskGroupId", TaskSnapshot::taskGroupId));
+
+    public static TaskSnapshot of(TaskEntity task) {
+        return new TaskSnapshot(
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getCreatedBy() != null ? task.getCreatedBy().getId() : null,
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getTaskGroup() != null ? task.getTaskGroup().getId() : null);
+    }
+
+    /**
+     * @return Entry per field with different value in after, empty when nothing changed.
+     */
+    public List<TaskAuditEntry> diff(TaskSnapshot after,
+                                     Long taskId,
+                                     Long version,
+                                     String changedBy,
+                                     Instant changedAt) {
+        List<TaskAuditEntry> entries = new ArrayList<>();
+        for (Field field : FIELDS) {
+            Object oldValue = field.value().apply(this);
+            Object newValue = field.value().apply(after);
+            if (!Objects.equals(oldValue, newValue)) {
+                entries.add(new TaskAuditEntry(taskId, version, field.name(),
+                        Objects.toString(oldValue, null), Objects.toString(newValue, null), changedBy, changedAt));
+            }
+        }
+        return entries;
+    }
+
+    private record Field(String name, Function<TaskSnapshot, Object> value) {
+    }
+}
@@ -0,0 +1,20 @@
+package http.tasktracksystem.domain.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Regions of Hibernate second-level cache, keys are region names used by @Cache annotations and query cache.
+ *
+ * @param enabled Second-level and query cache are used only when enabled.
+ * @param regions Sizing per region, ttlInSeconds 0 means entries do not expire.
+ */
+@ConfigurationProperties("l2cache")
+public record SecondLevelCacheProperties(boolean enabled,
+                                         Map<String, Region> regions) {
+
+    public record Region(long maxSize,
+                         long ttlInSeconds) {
+    }
+}
@@ -1,17 +1,19 @@
 package http.tasktracksystem.domain.controllers;
 
+import http.tasktracksystem.domain.dtos.requests.RefreshTokenRequest;
 import http.tasktracksystem.domain.dtos.requests.UserLoginRequest;
+import http.tasktracksystem.domain.dtos.responses.ApiResponse;
 import http.tasktracksystem.domain.services.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
 
 @Tag(name = "Authentication API", description = "API that manages logins.")
 @Slf4j
@@ -20,6 +22,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/auth")
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
 
     @Operation(
@@ -29,4 +33,22 @@ public class AuthController {
     public ResponseEntity<?> login(@Valid @RequestBody UserLoginRequest request) {
         return ResponseEntity.ok(this.authService.login(request.username(), request.password()));
     }
+
+    @Operation(
+            summary = "Exchange refresh token for new access and refresh tokens.",
+            description = "Returns message for user with new tokens. Given refresh token is revoked.")
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(this.authService.refresh(request.refreshToken()));
+    }
+
+    @Operation(
+            summary = "Logout user.",
+            description = "Revokes current access token and given refresh token if present.")
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                                                   @RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = authorization.substring(BEARER_PREFIX.length());
+        return ResponseEntity.ok(this.authService.logout(accessToken, request != null ? request.refreshToken() : null));
+    }
 }
@@ -0,0 +1,33 @@
+package http.tasktracksystem.domain.controllers;
+
+import http.tasktracksystem.domain.feed.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Changes API", description = "API that pushes committed changes of tasks and task groups.")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/changes")
+public class ChangeFeedController {
+
+    private final ChangeFeed changeFeed;
+
+    @Operation(
+            summary = "Subscribe to changes.",
+            description = "Server-Sent Events stream of created and updated tasks and task groups, optionally filtered by group and assignee. "
+                    + "Bulk changes are sent to all subscribers, the stream is closed when the client cannot keep up.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(name = "taskGroupId", required = false) Long taskGroupId,
+                                @RequestParam(name = "assignedToId", required = false) Long assignedToId) {
+        return this.changeFeed.subscribe(taskGroupId, assignedToId);
+    }
+}
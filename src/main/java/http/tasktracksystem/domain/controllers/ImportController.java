@@ -0,0 +1,61 @@
+package http.tasktracksystem.domain.controllers;
+
+import http.tasktracksystem.domain.dtos.responses.ImportJobResponse;
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.ImportJobStatus;
+import http.tasktracksystem.domain.security.user.AppUserDetails;
+import http.tasktracksystem.domain.services.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@Tag(name = "Imports API", description = "API that provides streaming import of tasks and task groups.")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/imports")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @Operation(
+            summary = "Create import job.",
+            description = "Returns PENDING job, rows are uploaded to it in the given format (ndjson or csv).")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> create(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                    @AuthenticationPrincipal AppUserDetails userDetails) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(this.importService.create(DataFormat.from(format), userDetails));
+    }
+
+    @Operation(
+            summary = "Upload rows of import job.",
+            description = "Body is read as stream and committed in chunks. Upload of the same file to FAILED job resumes after committed rows.")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    @PutMapping("/{jobId}/rows")
+    public ResponseEntity<ImportJobResponse> upload(@PathVariable("jobId") Long jobId,
+                                                    InputStream body,
+                                                    @AuthenticationPrincipal AppUserDetails userDetails) {
+        ImportJobResponse response = this.importService.upload(jobId, body, userDetails);
+        return ResponseEntity.status(response.status() == ImportJobStatus.COMPLETED && response.failedRows() == 0
+                        ? HttpStatus.OK
+                        : HttpStatus.MULTI_STATUS)
+                .body(response);
+    }
+
+    @Operation(
+            summary = "Get progress of import job.",
+            description = "Returns committed rows, created tasks and groups and errors of failed rows.")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getById(@PathVariable("jobId") Long jobId) {
+        return ResponseEntity.ok(this.importService.getById(jobId));
+    }
+}
@@ -0,0 +1,32 @@
+package http.tasktracksystem.domain.controllers;
+
+import http.tasktracksystem.domain.dtos.responses.SyncResponse;
+import http.tasktracksystem.domain.services.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Sync API", description = "API that provides delta sync of tasks and task groups for offline clients.")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Operation(
+            summary = "Get changes since token.",
+            description = "Returns tasks and task groups created or updated since the token and deleted ones. "
+                    + "Without token all of them are returned. Sync again with nextToken while hasMore is true.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @GetMapping
+    public ResponseEntity<SyncResponse> changesSince(@RequestParam(name = "since", required = false) String since) {
+        return ResponseEntity.ok(this.syncService.changesSince(since));
+    }
+}
@@ -1,20 +1,41 @@
 package http.tasktracksystem.domain.controllers;
 
+import http.tasktracksystem.domain.dtos.requests.TaskBatchCreateRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskBulkAssignRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskBulkMoveRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskBulkStatusRequest;
 import http.tasktracksystem.domain.dtos.requests.TaskCreateRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskSearchCriteria;
 import http.tasktracksystem.domain.dtos.requests.TaskUpdateRequest;
 import http.tasktracksystem.domain.dtos.responses.ApiResponse;
+import http.tasktracksystem.domain.dtos.responses.CursorPageResponse;
+import http.tasktracksystem.domain.dtos.responses.PageResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskAuditResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskBatchResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskResponse;
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.TaskExportColumn;
+import http.tasktracksystem.domain.enums.TaskStatus;
 import http.tasktracksystem.domain.security.user.AppUserDetails;
+import http.tasktracksystem.domain.services.TaskAuditService;
+import http.tasktracksystem.domain.services.TaskExportService;
 import http.tasktracksystem.domain.services.TaskService;
+import http.tasktracksystem.domain.utils.responses.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Tasks API", description = "API that provides operations related to tasks.")
@@ -24,6 +45,61 @@ import java.util.Map;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskAuditService taskAuditService;
+
+    @Operation(
+            summary = "Get tasks filtered by given parameters.",
+            description = "Returns tasks ordered by last update with cursor for the next page.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<TaskResponse>> search(@RequestParam(name = "status", required = false) TaskStatus status,
+                                                                   @RequestParam(name = "assignedToId", required = false) Long assignedToId,
+                                                                   @RequestParam(name = "createdById", required = false) Long createdById,
+                                                                   @RequestParam(name = "taskGroupId", required = false) Long taskGroupId,
+                                                                   @RequestParam(name = "updatedSince", required = false) Instant updatedSince,
+                                                                   @RequestParam(name = "cursor", required = false) String cursor,
+                                                                   @RequestParam(name = "size", defaultValue = "20") int size) {
+        TaskSearchCriteria criteria = TaskSearchCriteria.builder()
+                .status(status)
+                .assignedToId(assignedToId)
+                .createdById(createdById)
+                .taskGroupId(taskGroupId)
+                .updatedSince(updatedSince)
+                .build();
+        return ResponseEntity.ok(this.taskService.search(criteria, cursor, size));
+    }
+
+    @Operation(
+            summary = "Get history of task changes.",
+            description = "Returns changed fields with old and new values, user and time of the change, newest first.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @GetMapping("/{taskId}/history")
+    public ResponseEntity<PageResponse<TaskAuditResponse>> getHistory(@PathVariable("taskId") Long taskId,
+                                                                      @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                      @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(this.taskAuditService.getHistory(taskId, page, size));
+    }
+
+    @Operation(
+            summary = "Export all tasks as NDJSON or CSV.",
+            description = "Streams tasks ordered by ID, columns is comma separated list of exported fields (all when not present).")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                        @RequestParam(name = "columns", required = false) String columns) {
+        // validated before streaming starts, so invalid request is still answered with 400
+        DataFormat exportFormat = DataFormat.from(format);
+        List<TaskExportColumn> exportColumns = TaskExportColumn.from(columns);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(output -> this.taskExportService.export(exportFormat, exportColumns, output));
+    }
 
     @Operation(
             summary = "Create new task",
@@ -32,42 +108,101 @@ public class TaskController {
     @PostMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> create(@Valid @RequestBody TaskCreateRequest request,
                                                                    @AuthenticationPrincipal AppUserDetails userDetails) {
+        ApiResponse<Map<String, Object>> response = this.taskService.create(request, userDetails);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(this.taskService.create(request, userDetails.getUsername()));
+                .eTag(ETags.of(response))
+                .body(response);
+    }
+
+    @Operation(
+            summary = "Create many tasks at once.",
+            description = "Returns result for every task, tasks with unknown assignee or group are not created.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> createBatch(@Valid @RequestBody TaskBatchCreateRequest request,
+                                                         @AuthenticationPrincipal AppUserDetails userDetails) {
+        TaskBatchResponse response = this.taskService.createBatch(request, userDetails);
+        return ResponseEntity.status(response.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(response);
     }
 
     @Operation(
             summary = "Assign user to already existing task based on parameters.",
-            description = "Returns message for task with assignee details.")
+            description = "Returns message for task with assignee details. Applied only if If-Match equals current ETag when present.")
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @PatchMapping("/{taskId}/assign")
     public ResponseEntity<ApiResponse<Map<String, Object>>> assign(@PathVariable("taskId") Long taskId,
                                                                    @RequestParam(required = false) String assignee,
+                                                                   @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                                    @AuthenticationPrincipal
                                                                    AppUserDetails userDetails) {
-
-        return ResponseEntity.ok(this.taskService.assignTo(taskId, assignee, userDetails.getUsername()));
+        ApiResponse<Map<String, Object>> response = this.taskService.assignTo(taskId, assignee, userDetails.getUsername(), ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response))
+                .body(response);
     }
 
     @Operation(
             summary = "Add group to task.",
-            description = "Returns message for task with group details.")
+            description = "Returns message for task with group details. Applied only if If-Match equals current ETag when present.")
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @PatchMapping("{taskId}/{taskGroupId}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> addToGroup(@PathVariable("taskId") Long taskId,
                                                                        @PathVariable("taskGroupId") Long taskGroupId,
+                                                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                       @AuthenticationPrincipal
+                                                                       AppUserDetails userDetails) {
+        ApiResponse<Map<String, Object>> response = this.taskService.addToGroup(taskId, taskGroupId, userDetails.getUsername(), ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response))
+                .body(response);
+    }
+
+    @Operation(
+            summary = "Change status of many tasks selected by IDs or filter.",
+            description = "Returns message with count of affected tasks. Filter matching more than 5000 tasks is rejected. "
+                    + "Change is not recorded in task history, change feed receives one BULK_UPDATED event.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> updateStatus(@Valid @RequestBody TaskBulkStatusRequest request) {
+        return ResponseEntity.ok(this.taskService.updateStatus(request));
+    }
+
+    @Operation(
+            summary = "Assign user to many tasks selected by IDs or filter.",
+            description = "Returns message with count of affected tasks. Filter matching more than 5000 tasks is rejected. "
+                    + "Change is not recorded in task history, change feed receives one BULK_UPDATED event.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @PatchMapping("/bulk/assign")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> assign(@Valid @RequestBody TaskBulkAssignRequest request,
+                                                                   @AuthenticationPrincipal
+                                                                   AppUserDetails userDetails) {
+        return ResponseEntity.ok(this.taskService.assignTo(request, userDetails.getUsername()));
+    }
+
+    @Operation(
+            summary = "Add group to many tasks selected by IDs or filter.",
+            description = "Returns message with count of affected tasks. Filter matching more than 5000 tasks is rejected. "
+                    + "Change is not recorded in task history, change feed receives one BULK_UPDATED event.")
+    @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
+    @PatchMapping("/bulk/group")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> addToGroup(@Valid @RequestBody TaskBulkMoveRequest request,
                                                                        @AuthenticationPrincipal
                                                                        AppUserDetails userDetails) {
-        return ResponseEntity.ok(this.taskService.addToGroup(taskId, taskGroupId, userDetails.getUsername()));
+        return ResponseEntity.ok(this.taskService.addToGroup(request, userDetails.getUsername()));
     }
 
     @Operation(
             summary = "Update task with new parameters.",
-            description = "Returns message for task details.")
+            description = "Returns message for task details. Applied only if If-Match equals current ETag when present.")
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @PutMapping("/{taskId}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> update(@PathVariable("taskId") Long taskId,
+                                                                   @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                                    @Valid @RequestBody TaskUpdateRequest request) {
-        return ResponseEntity.ok(this.taskService.update(taskId, request));
+        ApiResponse<Map<String, Object>> response = this.taskService.update(taskId, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response))
+                .body(response);
     }
 }
@@ -4,7 +4,10 @@ import http.tasktracksystem.domain.dtos.requests.TaskGroupRequest;
 import http.tasktracksystem.domain.dtos.responses.ApiResponse;
 import http.tasktracksystem.domain.dtos.responses.PageResponse;
 import http.tasktracksystem.domain.dtos.responses.TaskGroupResponse;
+import http.tasktracksystem.domain.enums.PageMode;
+import http.tasktracksystem.domain.enums.TaskGroupSortField;
 import http.tasktracksystem.domain.services.TaskGroupService;
+import http.tasktracksystem.domain.utils.responses.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -26,14 +29,16 @@ public class TaskGroupController {
 
     @Operation(
             summary = "Get all task groups.",
-            description = "Returns response message with all task groups as pageable sorted by different params.")
+            description = "Returns response message with all task groups as pageable sorted by id, name, status or date. " +
+                    "Mode 'page' counts totals, 'slice' returns only hasNext and 'approximate' returns cached totals.")
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @GetMapping("/all")
     public ResponseEntity<PageResponse<TaskGroupResponse>> getAll(@RequestParam(name = "page", defaultValue = "0") int page,
                                                                   @RequestParam(name = "size", defaultValue = "10") int size,
                                                                   @RequestParam(name = "sortBy", defaultValue = "id") String sortBy,
-                                                                  @RequestParam(name = "direction", defaultValue = "asc") String direction) {
-        return ResponseEntity.ok(new PageResponse<>(this.taskGroupService.getAll(page, size, sortBy, direction)));
+                                                                  @RequestParam(name = "direction", defaultValue = "asc") String direction,
+                                                                  @RequestParam(name = "mode", defaultValue = "page") String mode) {
+        return ResponseEntity.ok(this.taskGroupService.getAll(page, size, TaskGroupSortField.from(sortBy), direction, PageMode.from(mode)));
     }
 
     @Operation(
@@ -42,7 +47,9 @@ public class TaskGroupController {
     @PreAuthorize("hasAnyRole('ROLE_USER', 'ROLE_ADMIN')")
     @PostMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> create(@Valid @RequestBody TaskGroupRequest request) {
+        ApiResponse<Map<String, Object>> response = this.taskGroupService.create(request);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(this.taskGroupService.create(request));
+                .eTag(ETags.of(response))
+                .body(response);
     }
 }
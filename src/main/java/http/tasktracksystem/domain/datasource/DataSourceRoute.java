@@ -0,0 +1,6 @@
+package http.tasktracksystem.domain.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA;
+}
@@ -0,0 +1,28 @@
+package http.tasktracksystem.domain.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-only transactions go to replica, everything else to primary. Should be wrapped in
+ * LazyConnectionDataSourceProxy, otherwise connection is taken before read-only flag of the transaction is set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRoute.PRIMARY;
+        }
+
+        return this.readYourWritesTracker.isCurrentUserSticky()
+                ? DataSourceRoute.PRIMARY
+                : DataSourceRoute.REPLICA;
+    }
+}
@@ -0,0 +1,22 @@
+package http.tasktracksystem.domain.dtos.projections;
+
+import http.tasktracksystem.domain.enums.TaskStatus;
+
+import java.time.Instant;
+
+/**
+ * Flat task row with only foreign key IDs of related entities, loaded without initializing any entity.
+ */
+public record TaskProjection(
+        Long id,
+        Long taskGroupId,
+        String title,
+        String description,
+        TaskStatus status,
+        Instant createdAt,
+        Instant updatedAt,
+        Long createdById,
+        Long assignedToId,
+        Long version
+) {
+}
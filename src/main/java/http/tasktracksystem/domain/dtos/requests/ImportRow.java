@@ -0,0 +1,22 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+/**
+ * One line of NDJSON or CSV import. Values are kept as read and converted per row,
+ * so a wrong value fails only its own row.
+ *
+ * @param type          TASK or GROUP, groups should be placed before tasks referencing them by name.
+ * @param name          Name of the group.
+ * @param status        TaskStatus of task or TaskGroupStatus of group.
+ * @param taskGroupName Name of existing or already imported group, used instead of taskGroupId when present.
+ */
+public record ImportRow(
+        String type,
+        String name,
+        String title,
+        String description,
+        String status,
+        String assignedToUsername,
+        Long taskGroupId,
+        String taskGroupName
+) {
+}
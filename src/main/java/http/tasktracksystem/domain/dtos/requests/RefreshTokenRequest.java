@@ -0,0 +1,8 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank(message = "Refresh token should not be blank.")
+        String refreshToken) {
+}
@@ -0,0 +1,14 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBatchCreateRequest(
+        @NotEmpty(message = "Tasks should not be empty.")
+        @Size(max = 5000, message = "Tasks count should be max 5000 per batch.")
+        List<@Valid TaskCreateRequest> tasks
+) {
+}
@@ -0,0 +1,18 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * @param assignedToUsername Tasks are assigned to logged in user when not present.
+ */
+public record TaskBulkAssignRequest(
+        @Valid
+        @NotNull(message = "Selection should not be null.")
+        TaskBulkSelection selection,
+
+        @Size(min = 3, max = 50, message = "Assignee username length should be min 3 max 50 characters.")
+        String assignedToUsername
+) {
+}
@@ -0,0 +1,16 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBulkMoveRequest(
+        @Valid
+        @NotNull(message = "Selection should not be null.")
+        TaskBulkSelection selection,
+
+        @NotNull(message = "Task Group ID should not be null.")
+        @Min(value = 1, message = "Task Group ID should be greater than 0.")
+        Long taskGroupId
+) {
+}
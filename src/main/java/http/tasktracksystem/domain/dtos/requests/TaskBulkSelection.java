@@ -0,0 +1,16 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Tasks affected by bulk operation, either given IDs or all tasks matching the filter.
+ */
+public record TaskBulkSelection(
+        @Size(max = 5000, message = "IDs count should be max 5000.")
+        List<Long> ids,
+
+        TaskSearchCriteria filter
+) {
+}
@@ -0,0 +1,15 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+import http.tasktracksystem.domain.enums.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBulkStatusRequest(
+        @Valid
+        @NotNull(message = "Selection should not be null.")
+        TaskBulkSelection selection,
+
+        @NotNull(message = "Status should not be null.")
+        TaskStatus status
+) {
+}
@@ -0,0 +1,26 @@
+package http.tasktracksystem.domain.dtos.requests;
+
+import http.tasktracksystem.domain.enums.TaskStatus;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * Optional task filters, null values are not applied.
+ */
+@Builder
+public record TaskSearchCriteria(
+        TaskStatus status,
+        Long assignedToId,
+        Long createdById,
+        Long taskGroupId,
+        Instant updatedSince
+) {
+    public boolean isEmpty() {
+        return status == null
+                && assignedToId == null
+                && createdById == null
+                && taskGroupId == null
+                && updatedSince == null;
+    }
+}
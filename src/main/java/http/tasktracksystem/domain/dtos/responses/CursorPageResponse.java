@@ -0,0 +1,17 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * @param nextCursor Opaque cursor to be sent back for the next page, null on last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,31 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.ImportJobStatus;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @param committedRows Rows stored so far, upload of the same file continues after them.
+ * @param failedRows    All failed rows, only first imports.maxErrors of them are present in errors.
+ * @param message       Reason why upload stopped, present only when FAILED.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportJobResponse(
+        Long id,
+        ImportJobStatus status,
+        DataFormat format,
+        long committedRows,
+        long createdGroups,
+        long createdTasks,
+        long failedRows,
+        String message,
+        Instant createdAt,
+        Instant updatedAt,
+        List<ImportRowErrorResponse> errors
+) {
+}
@@ -0,0 +1,11 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+/**
+ * @param row   Number of the row in uploaded file, header of CSV is not counted.
+ * @param error Reason of failure.
+ */
+public record ImportRowErrorResponse(
+        long row,
+        String error
+) {
+}
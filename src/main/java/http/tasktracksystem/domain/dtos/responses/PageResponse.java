@@ -1,16 +1,26 @@
 package http.tasktracksystem.domain.dtos.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
+/**
+ * @param totalElements Null in SLICE mode.
+ * @param totalPages    Null in SLICE mode.
+ * @param approximate   True when totals come from row counters instead of COUNT query.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
-        int totalPages,
-        boolean last
+        Long totalElements,
+        Integer totalPages,
+        boolean last,
+        boolean hasNext,
+        boolean approximate
 ) {
     public PageResponse(Page<T> page) {
         this(
@@ -19,7 +29,35 @@ public record PageResponse<T>(
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
-                page.isLast()
+                page.isLast(),
+                page.hasNext(),
+                false
+        );
+    }
+
+    public PageResponse(Slice<T> slice) {
+        this(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.isLast(),
+                slice.hasNext(),
+                false
+        );
+    }
+
+    public PageResponse(Slice<T> slice, long approximateTotal) {
+        this(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                approximateTotal,
+                slice.getSize() == 0 ? 1 : (int) Math.ceil((double) approximateTotal / slice.getSize()),
+                slice.isLast(),
+                slice.hasNext(),
+                true
         );
     }
 }
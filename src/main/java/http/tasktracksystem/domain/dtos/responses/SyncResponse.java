@@ -0,0 +1,18 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import java.util.List;
+
+/**
+ * Current state of tasks and groups created or updated since the token, and IDs of deleted ones.
+ *
+ * @param hasMore   True when the changes did not fit into one response, sync again with nextToken right away.
+ * @param nextToken Opaque token to be sent with the next sync, it is returned even when nothing changed.
+ */
+public record SyncResponse(
+        List<TaskResponse> tasks,
+        List<TaskGroupChangeResponse> taskGroups,
+        List<TombstoneResponse> deleted,
+        boolean hasMore,
+        String nextToken
+) {
+}
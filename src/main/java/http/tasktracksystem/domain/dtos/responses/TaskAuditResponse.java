@@ -0,0 +1,16 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import java.time.Instant;
+
+/**
+ * @param version Version of the task after the change.
+ */
+public record TaskAuditResponse(
+        String field,
+        String oldValue,
+        String newValue,
+        Long version,
+        String changedBy,
+        Instant changedAt
+) {
+}
@@ -0,0 +1,23 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @param index Position of the task in the request.
+ * @param id    ID of created task, null when failed.
+ * @param error Reason of failure, null when created.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskBatchItemResponse(
+        int index,
+        Long id,
+        String error
+) {
+    public static TaskBatchItemResponse created(int index, Long id) {
+        return new TaskBatchItemResponse(index, id, null);
+    }
+
+    public static TaskBatchItemResponse failed(int index, String error) {
+        return new TaskBatchItemResponse(index, null, error);
+    }
+}
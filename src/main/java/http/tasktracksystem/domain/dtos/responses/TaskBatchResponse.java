@@ -0,0 +1,13 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import java.util.List;
+
+/**
+ * @param items Result per task, in the order of the request.
+ */
+public record TaskBatchResponse(
+        int created,
+        int failed,
+        List<TaskBatchItemResponse> items
+) {
+}
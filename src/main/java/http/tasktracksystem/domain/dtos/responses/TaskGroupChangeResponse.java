@@ -0,0 +1,14 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import http.tasktracksystem.domain.enums.TaskGroupStatus;
+
+import java.time.Instant;
+
+public record TaskGroupChangeResponse(
+        Long id,
+        String name,
+        TaskGroupStatus status,
+        Instant createdAt,
+        Long version
+) {
+}
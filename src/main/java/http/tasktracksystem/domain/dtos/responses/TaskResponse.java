@@ -7,12 +7,15 @@ import java.time.Instant;
 
 @Builder
 public record TaskResponse(
+        Long id,
         String title,
         String description,
         TaskStatus status,
         Instant createdAt,
         Instant updatedAt,
         Long createdById,
-        Long assignedToId
+        Long assignedToId,
+        Long taskGroupId,
+        Long version
 ) {
 }
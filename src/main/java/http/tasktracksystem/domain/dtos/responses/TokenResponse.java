@@ -3,5 +3,5 @@ package http.tasktracksystem.domain.dtos.responses;
 import lombok.Builder;
 
 @Builder
-public record TokenResponse(Long id, String username, String email, String token) {
+public record TokenResponse(Long id, String username, String email, String token, String refreshToken) {
 }
@@ -0,0 +1,12 @@
+package http.tasktracksystem.domain.dtos.responses;
+
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+
+import java.time.Instant;
+
+public record TombstoneResponse(
+        ChangeEntityType entity,
+        Long id,
+        Instant deletedAt
+) {
+}
@@ -0,0 +1,59 @@
+package http.tasktracksystem.domain.entities;
+
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.ImportJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_jobs")
+public class ImportJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // every committed chunk increments it, so two uploads of the same job could not interleave
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ImportJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private DataFormat format;
+
+    @Column(name = "created_by_id")
+    private Long createdById;
+
+    @Column(name = "committed_rows", nullable = false)
+    private long committedRows;
+
+    @Column(name = "created_groups", nullable = false)
+    private long createdGroups;
+
+    @Column(name = "created_tasks", nullable = false)
+    private long createdTasks;
+
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
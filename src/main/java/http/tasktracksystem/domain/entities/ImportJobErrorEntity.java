@@ -0,0 +1,27 @@
+package http.tasktracksystem.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_job_errors")
+public class ImportJobErrorEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "row_num", nullable = false)
+    private long rowNumber;
+
+    @Column(length = 1000, nullable = false)
+    private String message;
+}
@@ -0,0 +1,52 @@
+package http.tasktracksystem.domain.entities;
+
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+import http.tasktracksystem.domain.enums.ChangeType;
+import http.tasktracksystem.domain.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventEntity {
+
+    // ID order is the dispatch order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", length = 20, nullable = false)
+    private ChangeEntityType aggregateType;
+
+    // null for bulk changes, they are ordered among themselves per aggregate type
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 20, nullable = false)
+    private ChangeType eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+}
@@ -17,10 +17,25 @@ import java.time.Instant;
 @Table(name = "tasks")
 public class TaskEntity {
 
+    // foreign key names from Liquibase changeset, used to map violations to NotFoundException
+    public static final String FK_CREATED_BY = "FK_TASK_CREATED_BY";
+    public static final String FK_ASSIGNED_TO = "FK_TASK_ASSIGNED_TO";
+    public static final String FK_TASK_GROUP = "FK_TASK_GROUP_ID";
+
+    // pooled generator instead of IDENTITY, so Hibernate could batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // CHANGE_SEQUENCE value of the last write, delta sync returns rows changed after the token of the client
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     @Column(nullable = false)
     private String title;
 
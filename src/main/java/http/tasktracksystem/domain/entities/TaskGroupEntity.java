@@ -2,6 +2,8 @@ package http.tasktracksystem.domain.entities;
 
 import http.tasktracksystem.domain.enums.TaskGroupStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.Instant;
@@ -13,6 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task-groups")
 @Table(name = "task_groups")
 public class TaskGroupEntity {
 
@@ -20,6 +23,14 @@ public class TaskGroupEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // CHANGE_SEQUENCE value of the last write, delta sync returns rows changed after the token of the client
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     @Column(nullable = false, unique = true)
     private String name;
 
@@ -1,6 +1,8 @@
 package http.tasktracksystem.domain.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.Instant;
@@ -15,9 +17,14 @@ import java.util.Set;
 @RequiredArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
 public class UserEntity {
 
+    // unique constraint names from Liquibase changeset, used to map violations to AlreadyExistsException
+    public static final String UK_USERNAME = "UK_USERS_USERNAME";
+    public static final String UK_EMAIL = "UK_USERS_EMAIL";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,7 +44,13 @@ public class UserEntity {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    // incremented by role change, tokens issued with older version are rejected
+    @Builder.Default
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion = 0L;
+
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
             name = "user_roles",
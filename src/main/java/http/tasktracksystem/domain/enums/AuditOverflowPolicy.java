@@ -0,0 +1,13 @@
+package http.tasktracksystem.domain.enums;
+
+/**
+ * What happens with audit entries when the buffer is full, dropped entries are counted in audit.dropped.
+ */
+public enum AuditOverflowPolicy {
+    // new entry is dropped, request thread never waits
+    DROP_NEWEST,
+    // oldest buffered entry is dropped to make room for the new one
+    DROP_OLDEST,
+    // request thread waits up to audit.offerTimeoutInMils, then the new entry is dropped
+    BLOCK
+}
@@ -0,0 +1,7 @@
+package http.tasktracksystem.domain.enums;
+
+public enum ChangeEntityType {
+    TASK,
+    TASK_GROUP,
+    USER
+}
@@ -0,0 +1,12 @@
+package http.tasktracksystem.domain.enums;
+
+/**
+ * BULK_ changes are made by one statement for many tasks, they carry only count of affected tasks.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    BULK_CREATED,
+    BULK_UPDATED
+}
@@ -0,0 +1,34 @@
+package http.tasktracksystem.domain.enums;
+
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_DATA_FORMAT;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * Streamed formats of export and import. NDJSON - one JSON object per line, CSV - header line followed by one line per row.
+ */
+@Getter
+public enum DataFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    DataFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static DataFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException(formatRow(INVALID_DATA_FORMAT, format, Arrays.toString(values()))));
+    }
+}
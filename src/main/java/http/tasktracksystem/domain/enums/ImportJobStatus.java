@@ -0,0 +1,12 @@
+package http.tasktracksystem.domain.enums;
+
+/**
+ * PENDING - created, no rows uploaded yet, RUNNING - upload in progress, COMPLETED - whole file was processed,
+ * FAILED - upload stopped, rows up to committed rows are stored and the same file could be uploaded again to resume.
+ */
+public enum ImportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
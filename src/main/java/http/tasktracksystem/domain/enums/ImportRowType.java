@@ -0,0 +1,15 @@
+package http.tasktracksystem.domain.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ImportRowType {
+    TASK,
+    GROUP;
+
+    public static Optional<ImportRowType> from(String type) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(type))
+                .findFirst();
+    }
+}
@@ -0,0 +1,9 @@
+package http.tasktracksystem.domain.enums;
+
+/**
+ * Dispatched events are deleted, FAILED ones exceeded max attempts and are kept for inspection.
+ */
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,25 @@
+package http.tasktracksystem.domain.enums;
+
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+
+import java.util.Arrays;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_PAGE_MODE;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * PAGE - exact totals with COUNT query, SLICE - only hasNext without counting,
+ * APPROXIMATE - hasNext with totals from in-memory row counters.
+ */
+public enum PageMode {
+    PAGE,
+    SLICE,
+    APPROXIMATE;
+
+    public static PageMode from(String mode) {
+        return Arrays.stream(values())
+                .filter(value -> value.name().equalsIgnoreCase(mode))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException(formatRow(INVALID_PAGE_MODE, mode, Arrays.toString(values()))));
+    }
+}
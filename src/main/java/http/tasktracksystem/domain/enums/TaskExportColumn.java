@@ -0,0 +1,67 @@
+package http.tasktracksystem.domain.enums;
+
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_EXPORT_COLUMN;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * Columns of tasks export, only these could be selected, so column names are never taken from the request.
+ */
+@Getter
+public enum TaskExportColumn {
+    ID("id", "ID", Type.NUMBER),
+    TITLE("title", "TITLE", Type.TEXT),
+    DESCRIPTION("description", "DESCRIPTION", Type.TEXT),
+    STATUS("status", "STATUS", Type.TEXT),
+    CREATED_AT("createdAt", "CREATED_AT", Type.TIMESTAMP),
+    UPDATED_AT("updatedAt", "UPDATED_AT", Type.TIMESTAMP),
+    CREATED_BY_ID("createdById", "CREATED_BY_ID", Type.NUMBER),
+    ASSIGNED_TO_ID("assignedToId", "ASSIGNED_TO_ID", Type.NUMBER),
+    TASK_GROUP_ID("taskGroupId", "TASK_GROUP_ID", Type.NUMBER),
+    VERSION("version", "VERSION", Type.NUMBER);
+
+    public enum Type {
+        NUMBER,
+        TEXT,
+        TIMESTAMP
+    }
+
+    private final String alias;
+    private final String column;
+    private final Type type;
+
+    TaskExportColumn(String alias, String column, Type type) {
+        this.alias = alias;
+        this.column = column;
+        this.type = type;
+    }
+
+    /**
+     * @param columns Comma separated aliases, all columns are exported when not present.
+     * @return Columns in the requested order.
+     */
+    public static List<TaskExportColumn> from(String columns) {
+        if (columns == null || columns.isBlank()) {
+            return List.of(values());
+        }
+
+        return Arrays.stream(columns.split(","))
+                .map(String::trim)
+                .map(TaskExportColumn::fromAlias)
+                .distinct()
+                .toList();
+    }
+
+    private static TaskExportColumn fromAlias(String alias) {
+        return Arrays.stream(values())
+                .filter(value -> value.alias.equalsIgnoreCase(alias) || value.column.equalsIgnoreCase(alias))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException(formatRow(INVALID_EXPORT_COLUMN, alias,
+                        Arrays.stream(values()).map(TaskExportColumn::getAlias).toList())));
+    }
+}
@@ -0,0 +1,57 @@
+package http.tasktracksystem.domain.enums;
+
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_SORT_FIELD;
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_SORT_DIRECTION;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * Sortable fields of task groups listing, each one is backed by an index
+ * (primary key, unique NAME, (STATUS, ID) and (CREATED_AT, ID)), so sorted pages are read by index range scan.
+ */
+@Getter
+public enum TaskGroupSortField {
+    ID("id", List.of("id")),
+    NAME("name", List.of("name")),
+    STATUS("status", List.of("status")),
+    CREATED_AT("createdAt", List.of("date", "createdAt", "created_at"));
+
+    private static final String TIE_BREAKER = "id";
+
+    private final String property;
+    private final List<String> aliases;
+
+    TaskGroupSortField(String property, List<String> aliases) {
+        this.property = property;
+        this.aliases = aliases;
+    }
+
+    public static TaskGroupSortField from(String sortBy) {
+        return Arrays.stream(values())
+                .filter(field -> field.aliases.stream().anyMatch(alias -> alias.equalsIgnoreCase(sortBy)))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException(formatRow(INVALID_SORT_FIELD, sortBy, Arrays.toString(values()))));
+    }
+
+    /**
+     * Non unique fields are sorted by ID as well, it keeps pages stable and matches the (FIELD, ID) indexes.
+     *
+     * @param direction ASC or DESC
+     * @return Sort by this field.
+     */
+    public Sort toSort(String direction) {
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new InvalidRequestException(formatRow(INVALID_SORT_DIRECTION, direction)));
+
+        Sort sort = Sort.by(sortDirection, this.property);
+        return this == ID || this == NAME
+                ? sort
+                : sort.and(Sort.by(sortDirection, TIE_BREAKER));
+    }
+}
@@ -0,0 +1,6 @@
+package http.tasktracksystem.domain.enums;
+
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
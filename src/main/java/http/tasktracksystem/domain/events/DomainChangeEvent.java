@@ -0,0 +1,75 @@
+package http.tasktracksystem.domain.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import http.tasktracksystem.domain.entities.TaskEntity;
+import http.tasktracksystem.domain.entities.TaskGroupEntity;
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+import http.tasktracksystem.domain.enums.ChangeType;
+
+import java.time.Instant;
+
+/**
+ * Published by task, task group and user writes in the writing transaction. The outbox stores it before commit,
+ * the change feed receives it after commit.
+ * Previous group and assignee are present when the change moved the task away from them.
+ * IDs of associations are read from proxies without initializing them.
+ *
+ * @param affected Count of changed tasks of bulk change, ID and version are not present then.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DomainChangeEvent(
+        ChangeEntityType entity,
+        ChangeType type,
+        Long id,
+        Long version,
+        Long taskGroupId,
+        Long previousTaskGroupId,
+        Long assignedToId,
+        Long previousAssignedToId,
+        Integer affected,
+        Instant occurredAt
+) {
+    public static DomainChangeEvent ofTask(ChangeType type,
+                                           TaskEntity task,
+                                           Long previousTaskGroupId,
+                                           Long previousAssignedToId) {
+        Long taskGroupId = task.getTaskGroup() != null ? task.getTaskGroup().getId() : null;
+        Long assignedToId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        return new DomainChangeEvent(ChangeEntityType.TASK, type, task.getId(), task.getVersion(),
+                taskGroupId, changed(previousTaskGroupId, taskGroupId),
+                assignedToId, changed(previousAssignedToId, assignedToId),
+                null, Instant.now());
+    }
+
+    public static DomainChangeEvent ofTasks(ChangeType type,
+                                            int affected) {
+        return new DomainChangeEvent(ChangeEntityType.TASK, type, null, null,
+                null, null, null, null, affected, Instant.now());
+    }
+
+    public static DomainChangeEvent ofTaskGroup(ChangeType type,
+                                                TaskGroupEntity taskGroup) {
+        return new DomainChangeEvent(ChangeEntityType.TASK_GROUP, type, taskGroup.getId(), taskGroup.getVersion(),
+                taskGroup.getId(), null, null, null, null, Instant.now());
+    }
+
+    public static DomainChangeEvent ofUser(ChangeType type,
+                                           Long userId) {
+        return new DomainChangeEvent(ChangeEntityType.USER, type, userId, null,
+                null, null, null, null, null, Instant.now());
+    }
+
+    /**
+     * Bulk changes are not filtered by group or assignee, previous values of the tasks are not known.
+     */
+    @JsonIgnore
+    public boolean isBulk() {
+        return this.affected != null;
+    }
+
+    private static Long changed(Long previous,
+                                Long current) {
+        return previous != null && !previous.equals(current) ? previous : null;
+    }
+}
@@ -0,0 +1,19 @@
+package http.tasktracksystem.domain.events;
+
+import http.tasktracksystem.domain.audit.TaskSnapshot;
+
+import java.time.Instant;
+
+/**
+ * Published by single task updates in the writing transaction, audit log receives it after commit.
+ *
+ * @param version Version of the task after the change.
+ */
+public record TaskFieldsChangedEvent(
+        Long taskId,
+        Long version,
+        TaskSnapshot before,
+        TaskSnapshot after,
+        Instant changedAt
+) {
+}
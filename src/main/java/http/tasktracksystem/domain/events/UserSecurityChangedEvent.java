@@ -0,0 +1,8 @@
+package http.tasktracksystem.domain.events;
+
+/**
+ * Published when roles, credentials or existence of a user change,
+ * so everything that holds security state for that user can drop it.
+ */
+public record UserSecurityChangedEvent(Long userId, String username) {
+}
@@ -2,12 +2,18 @@ package http.tasktracksystem.domain.exceptions;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import http.tasktracksystem.domain.exceptions.custom.AlreadyExistsException;
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
 import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.exceptions.custom.PreconditionFailedException;
+import http.tasktracksystem.domain.exceptions.custom.ServiceUnavailableException;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
@@ -21,6 +27,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.USER_OR_PASSWORD_ARE_NOT_VALID;
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.VERSION_CONFLICT;
 
 @Slf4j
 @RestControllerAdvice
@@ -136,6 +143,13 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("UNAUTHORIZED", List.of(ex.getMessage())));
     }
 
+    // 401 - Invalid, expired or revoked token given in request body
+    @ExceptionHandler(JwtException.class)
+    public ResponseEntity<ErrorResponse> handleJwtException(JwtException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ErrorResponse("UNAUTHORIZED", List.of(ex.getMessage())));
+    }
+
     // 403 - Forbidden
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
@@ -163,6 +177,13 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("NOT_FOUND", List.of(ex.getMessage())));
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException ex) {
+        log.error("CLIENT_ERROR {}", ex.getMessage(), ex);
+        return ResponseEntity.badRequest()
+                .body(new ErrorResponse("CLIENT_ERROR", List.of(ex.getMessage())));
+    }
+
     @ExceptionHandler(AlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(AlreadyExistsException ex) {
         log.error("CLIENT_ERROR {}", ex.getMessage(), ex);
@@ -170,6 +191,31 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("CLIENT_ERROR", List.of(ex.getMessage())));
     }
 
+    // 412 - If-Match does not match current version of the resource
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        log.warn("PRECONDITION_FAILED {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new ErrorResponse("PRECONDITION_FAILED", List.of(ex.getMessage())));
+    }
+
+    // 412 - Resource was changed by concurrent request between read and versioned update
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.warn("PRECONDITION_FAILED {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(new ErrorResponse("PRECONDITION_FAILED", List.of(VERSION_CONFLICT)));
+    }
+
+    // 503 - Service Unavailable, client may retry after given seconds
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        log.warn("SERVICE_UNAVAILABLE {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse("SERVICE_UNAVAILABLE", List.of(ex.getMessage())));
+    }
+
     public record ErrorResponse(String code, List<String> messages) {
     }
 }
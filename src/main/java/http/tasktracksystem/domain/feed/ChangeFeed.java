@@ -0,0 +1,274 @@
+package http.tasktracksystem.domain.feed;
+
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import http.tasktracksystem.domain.exceptions.custom.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.CHANGE_FEED_OVERLOADED;
+
+/**
+ * In-process bus between committed writes and SSE subscribers. Writers only put the event to the bounded buffer
+ * of every matching subscription and never wait for the network. Buffers are sent by a small pool of sender threads,
+ * a subscription with full buffer is too slow and is closed, the client reconnects and reloads its view.
+ * Emitters are completed only by sender threads, as completing waits for a send in progress to the same client.
+ * A send blocked on a stalled client for longer than sendTimeoutInMils evicts that subscription and one more sender
+ * is started in place of the blocked one (until the connector write timeout releases it), so stalled clients
+ * could not take all senders from the others.
+ */
+@Slf4j
+@Component
+public class ChangeFeed {
+
+    private static final String EXECUTOR_NAME = "change-feed";
+
+    private final Set<ChangeSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final ThreadPoolExecutor senders;
+    private final Counter dropped;
+    private final Counter stalled;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutInMils;
+    private final long retryAfterSeconds;
+    private final long sendTimeoutInMils;
+
+    public ChangeFeed(MeterRegistry meterRegistry,
+                      @Value("${changes.senderThreads:2}") int senderThreads,
+                      @Value("${changes.sendTimeoutInMils:5000}") long sendTimeoutInMils,
+                      @Value("${changes.bufferSize:256}") int bufferSize,
+                      @Value("${changes.maxSubscribers:1000}") int maxSubscribers,
+                      @Value("${changes.timeoutInMils:1800000}") long timeoutInMils,
+                      @Value("${changes.retryAfterSeconds:5}") long retryAfterSeconds) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutInMils = timeoutInMils;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.sendTimeoutInMils = sendTimeoutInMils;
+        // every subscription has at most one pending send task, so the queue is bound by count of subscriptions,
+        // core size grows by one per blocked stalled send, max is never reached as there is one send per subscription
+        this.senders = new ThreadPoolExecutor(
+                senderThreads,
+                senderThreads + maxSubscribers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, this.senders, EXECUTOR_NAME);
+        Gauge.builder("changes.subscribers", this.subscriptions, Set::size)
+                .description("Open change feed connections")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("changes.dropped")
+                .description("Change feed connections closed because of full buffer")
+                .register(meterRegistry);
+        this.stalled = Counter.builder("changes.stalled")
+                .description("Change feed connections closed because of send blocked longer than sendTimeoutInMils")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param taskGroupId  Only changes of this group and its tasks when present.
+     * @param assignedToId Only changes of tasks assigned to this user when present.
+     * @return SseEmitter completed on timeout, error or when the subscription is too slow.
+     */
+    public SseEmitter subscribe(Long taskGroupId,
+                                Long assignedToId) {
+        if (this.subscriptions.size() >= this.maxSubscribers) {
+            throw new ServiceUnavailableException(CHANGE_FEED_OVERLOADED, this.retryAfterSeconds);
+        }
+
+        SseEmitter emitter = newEmitter();
+        ChangeSubscription subscription = new ChangeSubscription(emitter, taskGroupId, assignedToId, this.bufferSize);
+        emitter.onCompletion(() -> this.subscriptions.remove(subscription));
+        emitter.onTimeout(() -> close(subscription));
+        emitter.onError(error -> this.subscriptions.remove(subscription));
+        this.subscriptions.add(subscription);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(DomainChangeEvent change) {
+        // users are not part of task dashboards
+        if (change.entity() == ChangeEntityType.USER) {
+            return;
+        }
+
+        FeedEvent event = new FeedEvent(this.eventIds.incrementAndGet(), change);
+        for (ChangeSubscription subscription : this.subscriptions) {
+            if (!subscription.matches(change)) {
+                continue;
+            }
+            if (!subscription.offer(event)) {
+                log.debug("Change feed buffer is full, subscription closed.");
+                this.dropped.increment();
+                close(subscription);
+                continue;
+            }
+            scheduleSending(subscription);
+        }
+    }
+
+    /**
+     * Comment line keeps idle connections open through proxies and detects disconnected clients.
+     */
+    @Scheduled(fixedDelayString = "${changes.heartbeatInMils:15000}")
+    public void heartbeat() {
+        for (ChangeSubscription subscription : this.subscriptions) {
+            if (subscription.tryStartSending()) {
+                submit(subscription, () -> {
+                    send(subscription, SseEmitter.event().comment("heartbeat"));
+                    sendPending(subscription);
+                });
+            }
+        }
+    }
+
+    /**
+     * Stalled subscription is only removed here, its emitter is completed by the blocked sender once it returns,
+     * as completing waits for the send in progress.
+     */
+    @Scheduled(fixedDelayString = "${changes.sendTimeoutInMils:5000}")
+    public void evictStalled() {
+        long now = System.currentTimeMillis();
+        for (ChangeSubscription subscription : this.subscriptions) {
+            if (subscription.markStalled(now, this.sendTimeoutInMils)) {
+                log.debug("Change feed send is blocked longer than {} ms, subscription closed.", this.sendTimeoutInMils);
+                this.subscriptions.remove(subscription);
+                this.stalled.increment();
+                resizeSenders(1);
+            }
+        }
+    }
+
+    /**
+     * Separate for tests, which need emitters blocking in send.
+     */
+    SseEmitter newEmitter() {
+        return new SseEmitter(this.timeoutInMils);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.subscriptions.forEach(subscription -> subscription.emitter().complete());
+        this.senders.shutdown();
+    }
+
+    private void scheduleSending(ChangeSubscription subscription) {
+        if (subscription.tryStartSending()) {
+            submit(subscription, () -> sendPending(subscription));
+        }
+    }
+
+    private void submit(ChangeSubscription subscription,
+                        Runnable sending) {
+        try {
+            this.senders.execute(() -> {
+                try {
+                    sending.run();
+                } finally {
+                    subscription.stopSending();
+                }
+                // event offered or subscription closed after the last poll, but before sending was stopped
+                if (subscription.hasPending() || subscription.isClosed()) {
+                    scheduleSending(subscription);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // only on shutdown, nothing is sent anymore
+            subscription.stopSending();
+            this.subscriptions.remove(subscription);
+            subscription.emitter().complete();
+        }
+    }
+
+    private void sendPending(ChangeSubscription subscription) {
+        FeedEvent event;
+        while (!subscription.isClosed() && (event = subscription.poll()) != null) {
+            boolean sent = send(subscription, SseEmitter.event()
+                    .id(String.valueOf(event.id()))
+                    .name(event.change().entity() + "_" + event.change().type())
+                    .data(event.change(), MediaType.APPLICATION_JSON));
+            if (!sent) {
+                return;
+            }
+        }
+        if (subscription.isClosed() && subscription.tryComplete()) {
+            subscription.emitter().complete();
+        }
+    }
+
+    private boolean send(ChangeSubscription subscription,
+                         SseEmitter.SseEventBuilder event) {
+        if (!subscription.sendStarted()) {
+            return false;
+        }
+
+        boolean sent;
+        try {
+            subscription.emitter().send(event);
+            sent = true;
+        } catch (IOException | IllegalStateException e) {
+            // client disconnected or emitter already completed
+            this.subscriptions.remove(subscription);
+            sent = false;
+        }
+
+        if (subscription.sendFinished()) {
+            // evicted while blocked, the extra sender started meanwhile is not needed anymore
+            resizeSenders(-1);
+            if (subscription.tryComplete()) {
+                subscription.emitter().complete();
+            }
+            return false;
+        }
+        return sent;
+    }
+
+    private synchronized void resizeSenders(int delta) {
+        this.senders.setCorePoolSize(this.senders.getCorePoolSize() + delta);
+    }
+
+    /**
+     * Called by writers, so the emitter is completed by the sender. A blocked sender completes it once it returns.
+     */
+    private void close(ChangeSubscription subscription) {
+        this.subscriptions.remove(subscription);
+        subscription.close();
+        scheduleSending(subscription);
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
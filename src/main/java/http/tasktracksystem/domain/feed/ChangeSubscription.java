@@ -0,0 +1,128 @@
+package http.tasktracksystem.domain.feed;
+
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One SSE connection with its filter and bounded buffer of events waiting to be sent.
+ * At most one sender drains the buffer at a time, so events are sent in the order of commits.
+ */
+final class ChangeSubscription {
+
+    private static final long IDLE = 0L;
+    private static final long STALLED = -1L;
+
+    private final SseEmitter emitter;
+    private final Long taskGroupId;
+    private final Long assignedToId;
+    private final BlockingQueue<FeedEvent> buffer;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    // start of the send in progress (epoch millis), IDLE between sends, STALLED once evicted as too slow
+    private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+
+    ChangeSubscription(SseEmitter emitter,
+                       Long taskGroupId,
+                       Long assignedToId,
+                       int bufferSize) {
+        this.emitter = emitter;
+        this.taskGroupId = taskGroupId;
+        this.assignedToId = assignedToId;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    SseEmitter emitter() {
+        return this.emitter;
+    }
+
+    /**
+     * Bulk changes are sent to all subscriptions, single changes when current or previous
+     * group and assignee match the filters. Subscription without filters receives everything.
+     */
+    boolean matches(DomainChangeEvent event) {
+        if (event.isBulk()) {
+            return true;
+        }
+
+        boolean groupMatches = this.taskGroupId == null
+                || this.taskGroupId.equals(event.taskGroupId())
+                || this.taskGroupId.equals(event.previousTaskGroupId());
+        boolean assigneeMatches = this.assignedToId == null
+                || this.assignedToId.equals(event.assignedToId())
+                || this.assignedToId.equals(event.previousAssignedToId());
+        return groupMatches && assigneeMatches;
+    }
+
+    /**
+     * @return false when the buffer is full, the event is not added then.
+     */
+    boolean offer(FeedEvent event) {
+        return this.buffer.offer(event);
+    }
+
+    FeedEvent poll() {
+        return this.buffer.poll();
+    }
+
+    boolean hasPending() {
+        return !this.buffer.isEmpty();
+    }
+
+    void close() {
+        this.closed.set(true);
+    }
+
+    boolean isClosed() {
+        return this.closed.get();
+    }
+
+    /**
+     * @return true only for the first caller, which completes the emitter.
+     */
+    boolean tryComplete() {
+        return this.completed.compareAndSet(false, true);
+    }
+
+    boolean tryStartSending() {
+        return this.sending.compareAndSet(false, true);
+    }
+
+    void stopSending() {
+        this.sending.set(false);
+    }
+
+    /**
+     * @return false when the subscription was already evicted as stalled, nothing should be sent then.
+     */
+    boolean sendStarted() {
+        long current = this.sendStartedAt.get();
+        return current != STALLED && this.sendStartedAt.compareAndSet(current, System.currentTimeMillis());
+    }
+
+    /**
+     * @return true when the finished send was marked as stalled while it was blocked.
+     */
+    boolean sendFinished() {
+        return this.sendStartedAt.getAndUpdate(current -> current == STALLED ? STALLED : IDLE) == STALLED;
+    }
+
+    /**
+     * Marks the send in progress as stalled when it takes longer than timeout, only one caller succeeds.
+     *
+     * @return true if the subscription was marked by this call.
+     */
+    boolean markStalled(long now,
+                        long timeoutInMils) {
+        long startedAt = this.sendStartedAt.get();
+        return startedAt != IDLE
+                && startedAt != STALLED
+                && now - startedAt > timeoutInMils
+                && this.sendStartedAt.compareAndSet(startedAt, STALLED);
+    }
+}
@@ -0,0 +1,10 @@
+package http.tasktracksystem.domain.feed;
+
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+
+/**
+ * Change with ID sent as SSE event ID, the same change has the same ID for all subscriptions.
+ */
+record FeedEvent(long id,
+                 DomainChangeEvent change) {
+}
@@ -0,0 +1,25 @@
+package http.tasktracksystem.domain.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Created by Hibernate for every session, configured with hibernate.session.events.auto property.
+ * Batched statements are counted once per executed batch, as that is one round trip.
+ */
+public class CountingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTransactionCounter.statementExecuted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTransactionCounter.statementExecuted();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestTransactionCounter.flushed();
+    }
+}
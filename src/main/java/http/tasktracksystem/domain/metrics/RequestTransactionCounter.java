@@ -0,0 +1,75 @@
+package http.tasktracksystem.domain.metrics;
+
+/**
+ * Counts transactions, flushes, executed statements and loaded entities of the request handled by the current thread.
+ * Counting is active between start() and finish() only, work outside of requests is ignored.
+ */
+public final class RequestTransactionCounter {
+
+    private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+    private RequestTransactionCounter() {
+    }
+
+    public static void start() {
+        COUNTS.set(new Counts());
+    }
+
+    public static Counts finish() {
+        Counts counts = COUNTS.get();
+        COUNTS.remove();
+        return counts;
+    }
+
+    static void transactionStarted() {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.transactions++;
+        }
+    }
+
+    static void flushed() {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.flushes++;
+        }
+    }
+
+    static void statementExecuted() {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    public static final class Counts {
+
+        private int transactions;
+        private int flushes;
+        private int statements;
+        private int entityLoads;
+
+        public int transactions() {
+            return transactions;
+        }
+
+        public int flushes() {
+            return flushes;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public int entityLoads() {
+            return entityLoads;
+        }
+    }
+}
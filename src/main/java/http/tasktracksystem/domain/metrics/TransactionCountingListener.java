@@ -0,0 +1,19 @@
+package http.tasktracksystem.domain.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Registered to the transaction manager by Spring Boot, called for new transactions only (not for joined ones).
+ */
+@Component
+public class TransactionCountingListener implements TransactionExecutionListener {
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null) {
+            RequestTransactionCounter.transactionStarted();
+        }
+    }
+}
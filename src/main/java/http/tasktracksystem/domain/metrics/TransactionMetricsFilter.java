@@ -0,0 +1,67 @@
+package http.tasktracksystem.domain.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records count of transactions, flushes, statements and entity loads per endpoint. Runs before security filters,
+ * so transactions of principal loading are counted as well.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Component
+public class TransactionMetricsFilter extends OncePerRequestFilter {
+
+    private static final String TRANSACTIONS = "http.server.requests.transactions";
+    private static final String FLUSHES = "http.server.requests.flushes";
+    private static final String STATEMENTS = "http.server.requests.statements";
+    private static final String ENTITY_LOADS = "http.server.requests.entity.loads";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTransactionCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTransactionCounter.Counts counts = RequestTransactionCounter.finish();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+            record(TRANSACTIONS, "Transactions started per request", request.getMethod(), uri, counts.transactions());
+            record(FLUSHES, "Persistence context flushes per request", request.getMethod(), uri, counts.flushes());
+            record(STATEMENTS, "JDBC statements and batches executed per request", request.getMethod(), uri, counts.statements());
+            record(ENTITY_LOADS, "Entities loaded from DB or second-level cache per request", request.getMethod(), uri, counts.entityLoads());
+        }
+    }
+
+    private void record(String name,
+                        String description,
+                        String method,
+                        String uri,
+                        int value) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(this.meterRegistry)
+                .record(value);
+    }
+}
@@ -0,0 +1,169 @@
+package http.tasktracksystem.domain.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import http.tasktracksystem.domain.entities.OutboxEventEntity;
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+import http.tasktracksystem.domain.enums.OutboxStatus;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import http.tasktracksystem.domain.repositories.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Drains the outbox in batches of the oldest events and deletes the dispatched ones in the same transaction.
+ * Events of an aggregate which failed in the batch are held back until the next run, so order per aggregate is kept.
+ * After maxAttempts the event is marked FAILED and the rest of the aggregate continues.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String LAG_TIMER = "outbox.lag";
+    private static final String EVENTS_COUNTER = "outbox.events";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxHandler> handlers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer lag;
+    private final Timer batches;
+    private final Counter dispatched;
+    private final Counter retried;
+    private final Counter failed;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxHandler> handlers,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.batchSize:100}") int batchSize,
+                            @Value("${outbox.maxAttempts:10}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        this.lag = Timer.builder(LAG_TIMER)
+                .description("Time from commit of the change to its dispatch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batches = Timer.builder("outbox.batches")
+                .description("Duration of dispatched outbox batches")
+                .register(meterRegistry);
+        this.dispatched = eventsCounter(meterRegistry, "dispatched");
+        this.retried = eventsCounter(meterRegistry, "retried");
+        this.failed = eventsCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * Fully dispatched batches are followed by the next one right away, so a backlog is drained at full speed.
+     * A batch with failed or held back events ends the run, they are retried on the next one.
+     */
+    @Scheduled(fixedDelayString = "${outbox.pollInMils:1000}")
+    public void dispatch() {
+        int dispatchedCount;
+        do {
+            dispatchedCount = this.batches.record(() -> this.transactionTemplate.execute(status -> dispatchBatch()));
+        } while (dispatchedCount >= this.batchSize);
+    }
+
+    /**
+     * @return Count of events dispatched and deleted in the batch.
+     */
+    private Integer dispatchBatch() {
+        List<OutboxEventEntity> events = this.outboxEventRepository.findByStatusOrderByIdAsc(OutboxStatus.PENDING, Limit.of(this.batchSize));
+        Set<AggregateKey> heldBack = new HashSet<>();
+        List<Long> dispatchedIds = new ArrayList<>(events.size());
+
+        for (OutboxEventEntity event : events) {
+            AggregateKey key = new AggregateKey(event);
+            if (heldBack.contains(key)) {
+                continue;
+            }
+
+            try {
+                deliver(event);
+                dispatchedIds.add(event.getId());
+                this.lag.record(Duration.between(event.getCreatedAt(), Instant.now()));
+            } catch (Exception e) {
+                registerFailure(event, e, key, heldBack);
+            }
+        }
+
+        if (!dispatchedIds.isEmpty()) {
+            this.outboxEventRepository.deleteAllByIdInBatch(dispatchedIds);
+            this.dispatched.increment(dispatchedIds.size());
+        }
+        return dispatchedIds.size();
+    }
+
+    private void deliver(OutboxEventEntity event) throws Exception {
+        OutboxMessage message = new OutboxMessage(
+                event.getId(),
+                this.objectMapper.readValue(event.getPayload(), DomainChangeEvent.class),
+                event.getCreatedAt(),
+                event.getAttempts());
+
+        for (OutboxHandler handler : this.handlers) {
+            if (handler.supports(message)) {
+                handler.handle(message);
+            }
+        }
+    }
+
+    private void registerFailure(OutboxEventEntity event,
+                                 Exception e,
+                                 AggregateKey key,
+                                 Set<AggregateKey> heldBack) {
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(StringUtils.abbreviate(Objects.toString(e.getMessage(), e.getClass().getName()), MAX_ERROR_LENGTH));
+
+        if (event.getAttempts() >= this.maxAttempts) {
+            log.error("Outbox event {} failed {} times and is not dispatched anymore.", event.getId(), event.getAttempts(), e);
+            event.setStatus(OutboxStatus.FAILED);
+            this.failed.increment();
+            return;
+        }
+
+        log.warn("Outbox event {} failed, attempt {} of {}.", event.getId(), event.getAttempts(), this.maxAttempts, e);
+        heldBack.add(key);
+        this.retried.increment();
+    }
+
+    private static Counter eventsCounter(MeterRegistry meterRegistry,
+                                         String result) {
+        return Counter.builder(EVENTS_COUNTER)
+                .description("Outbox events by result of dispatch")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record AggregateKey(ChangeEntityType type, Long id) {
+
+        AggregateKey(OutboxEventEntity event) {
+            this(event.getAggregateType(), event.getAggregateId());
+        }
+    }
+}
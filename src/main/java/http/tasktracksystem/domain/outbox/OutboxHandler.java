@@ -0,0 +1,19 @@
+package http.tasktracksystem.domain.outbox;
+
+/**
+ * Reacts to committed changes outside of request threads. Every bean implementing it is called by OutboxDispatcher.
+ * Delivery is at least once and in order of changes per aggregate (entity type and ID), a handler should be
+ * idempotent by OutboxMessage.id. Exception retries the message, together with the handlers which already handled it.
+ * Handler runs in the dispatching transaction, its own DB work belongs to REQUIRES_NEW transaction.
+ */
+public interface OutboxHandler {
+
+    /**
+     * @return False for messages the handler does not react to.
+     */
+    default boolean supports(OutboxMessage message) {
+        return true;
+    }
+
+    void handle(OutboxMessage message) throws Exception;
+}
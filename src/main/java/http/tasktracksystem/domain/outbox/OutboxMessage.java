@@ -0,0 +1,17 @@
+package http.tasktracksystem.domain.outbox;
+
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+
+import java.time.Instant;
+
+/**
+ * @param id       ID of the outbox event, the same for redelivery, so handlers could drop duplicates.
+ * @param attempts Count of previous failed deliveries.
+ */
+public record OutboxMessage(
+        Long id,
+        DomainChangeEvent event,
+        Instant createdAt,
+        int attempts
+) {
+}
@@ -0,0 +1,36 @@
+package http.tasktracksystem.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import http.tasktracksystem.domain.entities.OutboxEventEntity;
+import http.tasktracksystem.domain.enums.OutboxStatus;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import http.tasktracksystem.domain.repositories.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Stores changes in the writing transaction just before commit, so an event exists exactly when its change was committed.
+ * Failure of the insert rolls the change back.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onChange(DomainChangeEvent event) throws JsonProcessingException {
+        this.outboxEventRepository.save(OutboxEventEntity.builder()
+                .aggregateType(event.entity())
+                .aggregateId(event.id())
+                .eventType(event.type())
+                .payload(this.objectMapper.writeValueAsString(event))
+                .status(OutboxStatus.PENDING)
+                .createdAt(event.occurredAt())
+                .build());
+    }
+}
@@ -0,0 +1,211 @@
+package http.tasktracksystem.domain.repositories;
+
+import com.zaxxer.hikari.HikariDataSource;
+import http.tasktracksystem.domain.dtos.responses.TaskGroupChangeResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskResponse;
+import http.tasktracksystem.domain.dtos.responses.TombstoneResponse;
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+import http.tasktracksystem.domain.enums.TaskGroupStatus;
+import http.tasktracksystem.domain.enums.TaskStatus;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Change sequence of delta sync. Writers stamp changed rows with the next value, readers query ranges of it
+ * through (CHANGE_SEQ, ID) indexes, so cost of a sync depends on count of changes and not on size of tables.
+ * Values are leased until the writer commits, readers stop before the lowest lease.
+ */
+@Repository
+public class ChangeLogRepository {
+
+    private static final String TASK_COLUMNS =
+            "ID, TITLE, DESCRIPTION, STATUS, CREATED_AT, UPDATED_AT, CREATED_BY_ID, ASSIGNED_TO_ID, TASK_GROUP_ID, VERSION, CHANGE_SEQ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HikariDataSource sequenceDataSource;
+    private final JdbcTemplate sequenceJdbcTemplate;
+    private final TransactionTemplate sequenceTransaction;
+
+    /**
+     * Values are allocated through a small pool of their own. Writers hold a connection of the main pool while
+     * waiting for it, so allocating from the main pool would stall all writes once they take all its connections.
+     */
+    public ChangeLogRepository(DataSource dataSource,
+                               DataSourceProperties properties,
+                               @Value("${sync.sequencePoolSize:2}") int sequencePoolSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.sequenceDataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.sequenceDataSource.setPoolName("change-sequence");
+        this.sequenceDataSource.setMaximumPoolSize(sequencePoolSize);
+        this.sequenceDataSource.setMinimumIdle(sequencePoolSize);
+        this.sequenceJdbcTemplate = new JdbcTemplate(this.sequenceDataSource);
+        this.sequenceTransaction = new TransactionTemplate(new DataSourceTransactionManager(this.sequenceDataSource));
+    }
+
+    @PreDestroy
+    void close() {
+        this.sequenceDataSource.close();
+    }
+
+    /**
+     * Called by writers in their transaction. The value is allocated and leased in a separate short transaction
+     * on the sequence pool, so the counter row is locked only for its duration and not until the writer commits.
+     * Allocations commit in the order of their values. The lease is deleted in the writer's transaction
+     * and disappears at its commit, after rollback it is deleted separately.
+     *
+     * @return Value to be stored in CHANGE_SEQ of all rows changed by the transaction.
+     */
+    public long next() {
+        Long seq = this.sequenceTransaction.execute(status -> {
+            this.sequenceJdbcTemplate.update("UPDATE CHANGE_SEQUENCE SET SEQ = SEQ + 1");
+            Long value = this.sequenceJdbcTemplate.queryForObject("SELECT SEQ FROM CHANGE_SEQUENCE", Long.class);
+            this.sequenceJdbcTemplate.update("INSERT INTO CHANGE_LEASES (SEQ, CREATED_AT) VALUES (?, ?)", value, Timestamp.from(Instant.now()));
+            return value;
+        });
+
+        this.jdbcTemplate.update("DELETE FROM CHANGE_LEASES WHERE SEQ = ?", seq);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        sequenceJdbcTemplate.update("DELETE FROM CHANGE_LEASES WHERE SEQ = ?", seq);
+                    }
+                }
+            });
+        }
+        return seq;
+    }
+
+    /**
+     * @return Value before the lowest lease or last allocated one without leases, changes up to it are all committed.
+     */
+    public long current() {
+        Long seq = this.jdbcTemplate.queryForObject(
+                "SELECT COALESCE((SELECT MIN(SEQ) FROM CHANGE_LEASES) - 1, (SELECT SEQ FROM CHANGE_SEQUENCE))", Long.class);
+        return seq != null ? seq : 0L;
+    }
+
+    /**
+     * Leases of writers which died before commit or release would hold sync back forever.
+     *
+     * @return Count of deleted leases created before the given time.
+     */
+    public int deleteLeasesCreatedBefore(Instant before) {
+        return this.jdbcTemplate.update("DELETE FROM CHANGE_LEASES WHERE CREATED_AT < ?", Timestamp.from(before));
+    }
+
+    /**
+     * Tasks changed by ON DELETE SET NULL of the user foreign keys are stamped before the user is deleted.
+     */
+    public int stampTasksOfUser(Long userId,
+                                long changeSeq) {
+        return this.jdbcTemplate.update(
+                "UPDATE TASKS SET CHANGE_SEQ = ? WHERE CREATED_BY_ID = ? OR ASSIGNED_TO_ID = ?",
+                changeSeq, userId, userId);
+    }
+
+    /**
+     * @return Tasks after (afterSeq, afterId) with CHANGE_SEQ up to until, ordered by CHANGE_SEQ and ID.
+     */
+    public List<Changed<TaskResponse>> findTasks(long afterSeq,
+                                                 long afterId,
+                                                 long until,
+                                                 int limit) {
+        return findChanged("SELECT " + TASK_COLUMNS + " FROM TASKS", afterSeq, afterId, until, limit, (rs, rowNum) -> TaskResponse.builder()
+                .id(rs.getLong("ID"))
+                .title(rs.getString("TITLE"))
+                .description(rs.getString("DESCRIPTION"))
+                .status(enumOf(TaskStatus.class, rs.getString("STATUS")))
+                .createdAt(instant(rs, "CREATED_AT"))
+                .updatedAt(instant(rs, "UPDATED_AT"))
+                .createdById(rs.getObject("CREATED_BY_ID", Long.class))
+                .assignedToId(rs.getObject("ASSIGNED_TO_ID", Long.class))
+                .taskGroupId(rs.getObject("TASK_GROUP_ID", Long.class))
+                .version(rs.getLong("VERSION"))
+                .build());
+    }
+
+    /**
+     * @return Task groups after (afterSeq, afterId) with CHANGE_SEQ up to until, ordered by CHANGE_SEQ and ID.
+     */
+    public List<Changed<TaskGroupChangeResponse>> findTaskGroups(long afterSeq,
+                                                                 long afterId,
+                                                                 long until,
+                                                                 int limit) {
+        return findChanged("SELECT ID, NAME, STATUS, CREATED_AT, VERSION, CHANGE_SEQ FROM TASK_GROUPS", afterSeq, afterId, until, limit,
+                (rs, rowNum) -> new TaskGroupChangeResponse(
+                        rs.getLong("ID"),
+                        rs.getString("NAME"),
+                        enumOf(TaskGroupStatus.class, rs.getString("STATUS")),
+                        instant(rs, "CREATED_AT"),
+                        rs.getLong("VERSION")));
+    }
+
+    /**
+     * @return Deleted tasks and groups after (afterSeq, afterId) with CHANGE_SEQ up to until, ordered by CHANGE_SEQ and ID.
+     */
+    public List<Changed<TombstoneResponse>> findTombstones(long afterSeq,
+                                                           long afterId,
+                                                           long until,
+                                                           int limit) {
+        return findChanged("SELECT ID, ENTITY_TYPE, ENTITY_ID, DELETED_AT, CHANGE_SEQ FROM TOMBSTONES", afterSeq, afterId, until, limit,
+                (rs, rowNum) -> new TombstoneResponse(
+                        ChangeEntityType.valueOf(rs.getString("ENTITY_TYPE")),
+                        rs.getLong("ENTITY_ID"),
+                        instant(rs, "DELETED_AT")));
+    }
+
+    /**
+     * Continuation is compared as (CHANGE_SEQ, ID) pair, so one change sequence can span more pages.
+     * Written out instead of row value comparison, which is not turned into index ranges reliably.
+     */
+    private <T> List<Changed<T>> findChanged(String select,
+                                             long afterSeq,
+                                             long afterId,
+                                             long until,
+                                             int limit,
+                                             RowMapper<T> mapper) {
+        return this.jdbcTemplate.query(
+                select + " WHERE (CHANGE_SEQ > ? OR (CHANGE_SEQ = ? AND ID > ?)) AND CHANGE_SEQ <= ? ORDER BY CHANGE_SEQ, ID LIMIT ?",
+                (rs, rowNum) -> new Changed<>(rs.getLong("CHANGE_SEQ"), rs.getLong("ID"), mapper.mapRow(rs, rowNum)),
+                afterSeq, afterSeq, afterId, until, limit);
+    }
+
+    private static Instant instant(ResultSet rs,
+                                   String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column, Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type,
+                                                String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+
+    /**
+     * @param changeSeq CHANGE_SEQ of the row, pages of sync end on its boundary when possible.
+     * @param id        ID of the row, continuation inside one change sequence.
+     */
+    public record Changed<T>(long changeSeq, long id, T value) {
+    }
+}
@@ -0,0 +1,11 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.entities.ImportJobErrorEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ImportJobErrorRepository extends JpaRepository<ImportJobErrorEntity, Long> {
+
+    List<ImportJobErrorEntity> findAllByJobIdOrderByRowNumber(Long jobId);
+}
@@ -0,0 +1,7 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.entities.ImportJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportJobRepository extends JpaRepository<ImportJobEntity, Long> {
+}
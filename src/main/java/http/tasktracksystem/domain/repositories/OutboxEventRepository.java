@@ -0,0 +1,25 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.entities.OutboxEventEntity;
+import http.tasktracksystem.domain.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Oldest events locked until the end of the dispatching transaction, dispatchers of other instances
+     * wait for them instead of delivering the same events out of order.
+     *
+     * @param status PENDING
+     * @param limit  Batch size.
+     * @return Events ordered by ID.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEventEntity> findByStatusOrderByIdAsc(OutboxStatus status,
+                                                     Limit limit);
+}
@@ -0,0 +1,33 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.entities.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    List<RevokedTokenEntity> findAllByExpiresAtAfter(Instant now);
+
+    /**
+     * Plain INSERT instead of save(), which would merge an existing row. Primary key violation means
+     * that the token was already revoked, also by a concurrent request or another instance.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO REVOKED_TOKENS (JTI, EXPIRES_AT, REVOKED_AT) VALUES (:jti, :expiresAt, :revokedAt)",
+            nativeQuery = true)
+    int insert(@Param("jti") String jti,
+               @Param("expiresAt") Instant expiresAt,
+               @Param("revokedAt") Instant revokedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedTokenEntity t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,16 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.audit.TaskAuditEntry;
+
+import java.util.List;
+
+public interface TaskAuditBatchRepository {
+
+    /**
+     * Entries are sent as one JDBC batch, rewritten to multi-row INSERT by the driver.
+     * IDENTITY IDs would disable Hibernate batching, so entities are not used for inserts.
+     *
+     * @param entries Entries to be inserted.
+     */
+    void insertAll(List<TaskAuditEntry> entries);
+}
@@ -0,0 +1,35 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.audit.TaskAuditEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+class TaskAuditBatchRepositoryImpl implements TaskAuditBatchRepository {
+
+    private static final String INSERT = """
+            INSERT INTO TASK_AUDIT (TASK_ID, VERSION, FIELD, OLD_VALUE, NEW_VALUE, CHANGED_BY, CHANGED_AT)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TaskAuditBatchRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void insertAll(List<TaskAuditEntry> entries) {
+        this.jdbcTemplate.batchUpdate(INSERT, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.taskId());
+            statement.setLong(2, entry.version());
+            statement.setString(3, entry.field());
+            statement.setString(4, entry.oldValue());
+            statement.setString(5, entry.newValue());
+            statement.setString(6, entry.changedBy());
+            statement.setTimestamp(7, Timestamp.from(entry.changedAt()));
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.entities.TaskAuditEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TaskAuditRepository extends JpaRepository<TaskAuditEntity, Long>, TaskAuditBatchRepository {
+
+    /**
+     * @return History of the task, newest first, read through (TASK_ID, ID) index.
+     */
+    Slice<TaskAuditEntity> findAllByTaskIdOrderByIdDesc(Long taskId,
+                                                        Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.enums.TaskExportColumn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Plain JDBC instead of entities, rows are streamed from the server and handed over one by one,
+ * so neither persistence context nor result list grows with table size.
+ */
+@Repository
+public class TaskExportRepository {
+
+    // Connector/J streams the result row by row only with this fetch size, only this template uses it, so other
+    // statements keep client side prepared statements instead of the server side ones required by useCursorFetch
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
+    }
+
+    /**
+     * @param columns Selected columns, names come from TaskExportColumn only.
+     * @param handler Called for every row ordered by ID.
+     */
+    public void streamAll(List<TaskExportColumn> columns,
+                          RowCallbackHandler handler) {
+        String select = columns.stream()
+                .map(TaskExportColumn::getColumn)
+                .collect(Collectors.joining(", "));
+        this.jdbcTemplate.query("SELECT " + select + " FROM TASKS ORDER BY ID", handler);
+    }
+}
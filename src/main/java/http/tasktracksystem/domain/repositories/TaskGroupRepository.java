@@ -1,9 +1,21 @@
 package http.tasktracksystem.domain.repositories;
 
 import http.tasktracksystem.domain.entities.TaskGroupEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface TaskGroupRepository extends JpaRepository<TaskGroupEntity, Long> {
 
     boolean existsByName(String name);
+
+    List<TaskGroupEntity> findAllByNameIn(Collection<String> names);
+
+    /**
+     * Reads size + 1 rows to resolve hasNext, no COUNT query is executed.
+     */
+    Slice<TaskGroupEntity> findAllBy(Pageable pageable);
 }
@@ -1,7 +1,56 @@
 package http.tasktracksystem.domain.repositories;
 
+import http.tasktracksystem.domain.dtos.projections.TaskProjection;
 import http.tasktracksystem.domain.entities.TaskEntity;
+import http.tasktracksystem.domain.entities.TaskGroupEntity;
+import http.tasktracksystem.domain.entities.UserEntity;
+import http.tasktracksystem.domain.enums.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, TaskSearchRepository {
+
+    /**
+     * Loads tasks of all given groups with a single query.
+     *
+     * @param groupIds IDs of task groups.
+     * @return Tasks ordered by ID.
+     */
+    @Query("""
+            select new http.tasktracksystem.domain.dtos.projections.TaskProjection(
+                t.id, t.taskGroup.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, c.id, a.id, t.version)
+            from TaskEntity t
+            left join t.createdBy c
+            left join t.assignedTo a
+            where t.taskGroup.id in :groupIds
+            order by t.id
+            """)
+    List<TaskProjection> findAllByTaskGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1, t.changeSeq = :changeSeq where t.id in :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") TaskStatus status,
+                          @Param("updatedAt") Instant updatedAt,
+                          @Param("changeSeq") long changeSeq);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.assignedTo = :assignee, t.updatedAt = :updatedAt, t.version = t.version + 1, t.changeSeq = :changeSeq where t.id in :ids")
+    int updateAssigneeByIds(@Param("ids") Collection<Long> ids,
+                            @Param("assignee") UserEntity assignee,
+                            @Param("updatedAt") Instant updatedAt,
+                            @Param("changeSeq") long changeSeq);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.taskGroup = :taskGroup, t.updatedAt = :updatedAt, t.version = t.version + 1, t.changeSeq = :changeSeq where t.id in :ids")
+    int updateTaskGroupByIds(@Param("ids") Collection<Long> ids,
+                             @Param("taskGroup") TaskGroupEntity taskGroup,
+                             @Param("updatedAt") Instant updatedAt,
+                             @Param("changeSeq") long changeSeq);
 }
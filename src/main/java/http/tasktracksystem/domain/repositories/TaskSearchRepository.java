@@ -0,0 +1,51 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.dtos.projections.TaskProjection;
+import http.tasktracksystem.domain.dtos.requests.TaskSearchCriteria;
+import http.tasktracksystem.domain.utils.pagination.KeysetCursor;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskSearchRepository {
+
+    /**
+     * Keyset pagination ordered by (updated_at, id) descending, the cost of a page does not depend on its depth.
+     *
+     * @param criteria Optional filters.
+     * @param after    Position after the last row of previous page, null for the first page.
+     * @param limit    Max count of returned rows.
+     * @return Tasks matching criteria after the cursor.
+     */
+    List<TaskProjection> search(TaskSearchCriteria criteria,
+                                KeysetCursor after,
+                                int limit);
+
+    /**
+     * @param criteria Filters, at least one should be present.
+     * @param limit    Max count of returned IDs.
+     * @return IDs of tasks matching criteria.
+     */
+    List<Long> findIdsByFilter(TaskSearchCriteria criteria,
+                               int limit);
+
+    /**
+     * Single UPDATE statement over the given tasks which still match criteria,
+     * updated_at and change_seq are set and version incremented as well.
+     *
+     * @param criteria  Filters, at least one should be present.
+     * @param ids       IDs found by findIdsByFilter, they bound the count of updated rows.
+     * @param attribute Attribute of TaskEntity to be changed.
+     * @param value     New value of the attribute.
+     * @param updatedAt Time of the change.
+     * @param changeSeq Change sequence of the transaction.
+     * @return Count of updated tasks.
+     */
+    int updateByFilter(TaskSearchCriteria criteria,
+                       Collection<Long> ids,
+                       String attribute,
+                       Object value,
+                       Instant updatedAt,
+                       long changeSeq);
+}
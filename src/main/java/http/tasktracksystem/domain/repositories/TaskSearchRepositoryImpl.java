@@ -0,0 +1,124 @@
+package http.tasktracksystem.domain.repositories;
+
+import http.tasktracksystem.domain.dtos.projections.TaskProjection;
+import http.tasktracksystem.domain.dtos.requests.TaskSearchCriteria;
+import http.tasktracksystem.domain.entities.TaskEntity;
+import http.tasktracksystem.domain.utils.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskProjection> search(TaskSearchCriteria criteria,
+                                       KeysetCursor after,
+                                       int limit) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskProjection> query = cb.createQuery(TaskProjection.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+
+        Path<Instant> updatedAt = task.get("updatedAt");
+        Path<Long> id = task.get("id");
+
+        List<Predicate> predicates = filterPredicates(cb, task, criteria);
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(updatedAt, after.updatedAt()),
+                    cb.and(cb.equal(updatedAt, after.updatedAt()), cb.lessThan(id, after.id()))));
+        }
+
+        query.select(cb.construct(TaskProjection.class,
+                        id,
+                        task.get("taskGroup").get("id"),
+                        task.get("title"),
+                        task.get("description"),
+                        task.get("status"),
+                        task.get("createdAt"),
+                        updatedAt,
+                        task.get("createdBy").get("id"),
+                        task.get("assignedTo").get("id"),
+                        task.get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(updatedAt), cb.desc(id));
+
+        return this.entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsByFilter(TaskSearchCriteria criteria,
+                                      int limit) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+
+        query.select(task.get("id"))
+                .where(filterPredicates(cb, task, criteria).toArray(Predicate[]::new));
+
+        return this.entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int updateByFilter(TaskSearchCriteria criteria,
+                              Collection<Long> ids,
+                              String attribute,
+                              Object value,
+                              Instant updatedAt,
+                              long changeSeq) {
+        CriteriaBuilder cb = this.entityManager.getCriteriaBuilder();
+        CriteriaUpdate<TaskEntity> update = cb.createCriteriaUpdate(TaskEntity.class);
+        Root<TaskEntity> task = update.from(TaskEntity.class);
+
+        Path<Long> version = task.get("version");
+        List<Predicate> predicates = filterPredicates(cb, task, criteria);
+        predicates.add(task.get("id").in(ids));
+        update.set(attribute, value)
+                .set("updatedAt", updatedAt)
+                .set("changeSeq", changeSeq)
+                .set(version, cb.sum(version, 1L))
+                .where(predicates.toArray(Predicate[]::new));
+
+        // managed tasks would be stale after bulk update
+        this.entityManager.flush();
+        int updated = this.entityManager.createQuery(update).executeUpdate();
+        this.entityManager.clear();
+        return updated;
+    }
+
+    /**
+     * Foreign keys are compared by ID path only, so no join to related tables is needed.
+     */
+    static List<Predicate> filterPredicates(CriteriaBuilder cb,
+                                            Root<TaskEntity> task,
+                                            TaskSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(task.get("status"), criteria.status()));
+        }
+        if (criteria.assignedToId() != null) {
+            predicates.add(cb.equal(task.get("assignedTo").get("id"), criteria.assignedToId()));
+        }
+        if (criteria.createdById() != null) {
+            predicates.add(cb.equal(task.get("createdBy").get("id"), criteria.createdById()));
+        }
+        if (criteria.taskGroupId() != null) {
+            predicates.add(cb.equal(task.get("taskGroup").get("id"), criteria.taskGroupId()));
+        }
+        if (criteria.updatedSince() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.get("updatedAt"), criteria.updatedSince()));
+        }
+        return predicates;
+    }
+}
@@ -1,15 +1,32 @@
 package http.tasktracksystem.domain.repositories;
 
 import http.tasktracksystem.domain.entities.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
+    /**
+     * Result is kept in query cache when second-level cache is enabled, it is invalidated by any write to USERS.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<UserEntity> findByUsername(String username);
 
-    boolean existsByUsername(String username);
+    /**
+     * Roles are EAGER, they are fetched by the same query instead of one select per found user.
+     */
+    @EntityGraph(attributePaths = "roles")
+    List<UserEntity> findAllByUsernameIn(Collection<String> usernames);
 
-    boolean existsByEmail(String email);
+    @Query("SELECT u.tokenVersion FROM UserEntity u WHERE u.id = :userId")
+    Optional<Long> findTokenVersionById(@Param("userId") Long userId);
 }
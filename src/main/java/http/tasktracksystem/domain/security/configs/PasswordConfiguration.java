@@ -1,14 +1,85 @@
 package http.tasktracksystem.domain.security.configs;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j
 @Configuration
 public class PasswordConfiguration {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    @Value("${auth.password.calibrate:true}")
+    private boolean calibrate;
+
+    @Value("${auth.password.targetHashMillis:250}")
+    private long targetHashMillis;
+
+    @Value("${auth.password.minStrength:10}")
+    private int minStrength;
+
+    @Value("${auth.password.maxStrength:14}")
+    private int maxStrength;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = calibrate ? calibrateStrength() : minStrength;
+        log.info("BCrypt strength: {}.", strength);
+        return new RehashingBCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Every next strength doubles the hash time, so only the min strength is measured
+     * and the biggest strength that stays within targetHashMillis is picked.
+     *
+     * @return Strength between minStrength and maxStrength.
+     */
+    private int calibrateStrength() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        // first run warms up the JIT
+        encoder.encode(CALIBRATION_PASSWORD);
+
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        double measuredMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000.0);
+
+        int strength = minStrength;
+        while (strength < maxStrength && measuredMillis * 2 <= targetHashMillis) {
+            measuredMillis *= 2;
+            strength++;
+        }
+        log.info("BCrypt calibration: estimated {} ms per hash for target {} ms.", Math.round(measuredMillis), targetHashMillis);
+        return strength;
+    }
+
+    /**
+     * Requests rehash of stored password when its strength differs from the configured one in any direction,
+     * DaoAuthenticationProvider then stores the new hash through UserDetailsPasswordService on successful login.
+     */
+    private static final class RehashingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+        private final int strength;
+
+        private RehashingBCryptPasswordEncoder(int strength) {
+            super(strength);
+            this.strength = strength;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            // BCrypt hash format: $2a$10$...
+            if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+                return super.upgradeEncoding(encodedPassword);
+            }
+            try {
+                return Integer.parseInt(encodedPassword.substring(4, 6)) != this.strength;
+            } catch (NumberFormatException e) {
+                return super.upgradeEncoding(encodedPassword);
+            }
+        }
     }
 }
@@ -4,6 +4,7 @@ import http.tasktracksystem.domain.security.jwt.AuthTokenFilter;
 import http.tasktracksystem.domain.security.jwt.JwtAccessDeniedHandler;
 import http.tasktracksystem.domain.security.jwt.JwtAuthEntryPoint;
 import http.tasktracksystem.domain.security.user.AppUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,10 +32,15 @@ public class SecurityConfigurations {
                     "/api/v1/task-groups",
                     "/api/v1/users/change/role",
                     "/api/v1/users/remove/**",
-                    "/api/v1/task-groups/all");
+                    "/api/v1/task-groups/all",
+                    "/api/v1/imports",
+                    "/api/v1/imports/**",
+                    "/api/v1/changes",
+                    "/api/v1/sync",
+                    "/api/v1/auth/logout");
 
     private static final List<String> NOT_SECURED =
-            List.of("/", "/api/v1/auth/login", "/api/v1/users/register");
+            List.of("/", "/api/v1/auth/login", "/api/v1/auth/refresh", "/api/v1/users/register");
 
 
     private final AppUserDetailsService appUserDetailsService;
@@ -55,6 +61,8 @@ public class SecurityConfigurations {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // streamed responses are completed by ASYNC dispatch, request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(SECURED_URLS.toArray(String[]::new)).authenticated()
                         .requestMatchers(NOT_SECURED.toArray(String[]::new)).permitAll()
                         .anyRequest().permitAll()
@@ -1,14 +1,20 @@
 package http.tasktracksystem.domain.security.jwt;
 
-import http.tasktracksystem.domain.security.user.AppUserDetailsService;
+import http.tasktracksystem.domain.enums.TokenType;
+import http.tasktracksystem.domain.security.user.AppUserDetails;
+import http.tasktracksystem.domain.security.user.PrincipalCache;
+import http.tasktracksystem.domain.services.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,25 +23,68 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
-@AllArgsConstructor
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_TOKEN_TYPE;
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.TOKEN_REVOKED;
+
 @Component
 public class AuthTokenFilter extends OncePerRequestFilter {
 
+    private static final String FILTER_TIMER = "auth.filter";
+
     private final JwtUtils jwtUtils;
-    private final AppUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
+    private final Timer anonymousTimer;
+    private final Timer rejectedTimer;
+    private final Timer authenticatedTimer;
+
+    /**
+     * When enabled principal is built from verified token claims instead of loading the user from DB.
+     */
+    @Value("${auth.token.statelessPrincipal:false}")
+    private boolean statelessPrincipal;
+
+    /**
+     * Timers are registered once per outcome, the filter runs on every request.
+     */
+    public AuthTokenFilter(JwtUtils jwtUtils,
+                           PrincipalCache principalCache,
+                           TokenRevocationService tokenRevocationService,
+                           MeterRegistry meterRegistry) {
+        this.jwtUtils = jwtUtils;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.meterRegistry = meterRegistry;
+        this.anonymousTimer = timer("anonymous");
+        this.rejectedTimer = timer("rejected");
+        this.authenticatedTimer = timer("authenticated");
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        Timer outcome = this.anonymousTimer;
         try {
             String jwtToken = parse(request);
-            if (StringUtils.isNotBlank(jwtToken) && jwtUtils.validateToken(jwtToken)) {
-                String username = jwtUtils.getUsernameFromToken(jwtToken);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (StringUtils.isNotBlank(jwtToken)) {
+                outcome = this.rejectedTimer;
+                Claims claims = jwtUtils.verifyToken(jwtToken);
+                if (!jwtUtils.isTokenType(claims, TokenType.ACCESS)) {
+                    throw new JwtException(INVALID_TOKEN_TYPE);
+                }
+                if (tokenRevocationService.isRevoked(claims.getId())) {
+                    throw new JwtException(TOKEN_REVOKED);
+                }
+                UserDetails userDetails = statelessPrincipal
+                        ? loadFromClaims(claims)
+                        : principalCache.loadUserByUsername(claims.getSubject());
                 var auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
+                outcome = this.authenticatedTimer;
             }
         } catch (JwtException e) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -45,11 +94,28 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write(e.getMessage());
             return;
+        } finally {
+            sample.stop(outcome);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadFromClaims(Claims claims) {
+        if (!jwtUtils.isCurrentVersion(claims)) {
+            throw new JwtException(TOKEN_REVOKED);
+        }
+        return AppUserDetails.buildUserDetails(jwtUtils.getUserFromClaims(claims));
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder(FILTER_TIMER)
+                .description("Token authentication latency, the rest of the filter chain is not included")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(this.meterRegistry);
+    }
+
     private String parse(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
         if (StringUtils.isNotBlank(authHeader) && authHeader.startsWith("Bearer ")) {
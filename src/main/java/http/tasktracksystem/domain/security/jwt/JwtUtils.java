@@ -1,10 +1,17 @@
 package http.tasktracksystem.domain.security.jwt;
 
+import http.tasktracksystem.domain.dtos.responses.UserSecurityDto;
+import http.tasktracksystem.domain.enums.TokenType;
 import http.tasktracksystem.domain.security.user.AppUserDetails;
+import http.tasktracksystem.domain.security.user.TokenVersionRegistry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -13,12 +20,16 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
 
+@RequiredArgsConstructor
 @Component
 public class JwtUtils {
 
+    private static final String SIGN_TIMER = "jwt.sign";
+    private static final String VERIFY_TIMER = "jwt.verify";
 
     @Value("${auth.token.jwtSecret}")
     private String jwtSecret;
@@ -26,50 +37,167 @@ public class JwtUtils {
     @Value("${auth.token.expirationInMils}")
     private int expirationTime;
 
+    @Value("${auth.token.refreshExpirationInMils}")
+    private long refreshExpirationTime;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    private Timer signAccessTimer;
+    private Timer signRefreshTimer;
+    private Timer verifyCachedTimer;
+    private Timer verifyParsedTimer;
+    private Timer verifyInvalidTimer;
+
+    /**
+     * Key, parser and timers are immutable and thread-safe, so they are built only once.
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        this.signAccessTimer = timer(SIGN_TIMER, "Token signing latency", "type", TokenType.ACCESS.name());
+        this.signRefreshTimer = timer(SIGN_TIMER, "Token signing latency", "type", TokenType.REFRESH.name());
+        this.verifyCachedTimer = timer(VERIFY_TIMER, "Token verification latency", "result", "cached");
+        this.verifyParsedTimer = timer(VERIFY_TIMER, "Token verification latency", "result", "verified");
+        this.verifyInvalidTimer = timer(VERIFY_TIMER, "Token verification latency", "result", "invalid");
+    }
 
     public String generateTokenForUser(Authentication authentication) {
-        AppUserDetails userPrincipal = (AppUserDetails) authentication.getPrincipal();
+        return generateAccessToken((AppUserDetails) authentication.getPrincipal());
+    }
+
+    /**
+     * @param userPrincipal Authenticated user.
+     * @return Short-lived access token with unique ID (jti), ID, EMAIL and ROLES claims.
+     */
+    public String generateAccessToken(AppUserDetails userPrincipal) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
         List<String> roles = userPrincipal.getAuthorities()
                 .stream().map(GrantedAuthority::getAuthority)
                 .toList();
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
                 .claim(ID, userPrincipal.getId())
                 .claim(EMAIL, userPrincipal.getEmail())
                 .claim(ROLES, roles)
+                .claim(TOKEN_VERSION, tokenVersionRegistry.currentVersion(userPrincipal.getId()))
+                .claim(TOKEN_TYPE, TokenType.ACCESS.name())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + expirationTime))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+        sample.stop(this.signAccessTimer);
+        return token;
+    }
+
+    /**
+     * @param userPrincipal Authenticated user.
+     * @return Long-lived refresh token, it can be used only to get new access token.
+     */
+    public String generateRefreshToken(AppUserDetails userPrincipal) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        String token = Jwts.builder()
+                .setSubject(userPrincipal.getUsername())
+                .claim(ID, userPrincipal.getId())
+                .claim(TOKEN_TYPE, TokenType.REFRESH.name())
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date((new Date()).getTime() + refreshExpirationTime))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
+        sample.stop(this.signRefreshTimer);
+        return token;
     }
 
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    /**
+     * Tokens issued before token types were introduced carry no type and are treated as access tokens.
+     *
+     * @param claims Verified claims.
+     * @param type   Expected type.
+     * @return true if token is from given type.
+     */
+    public boolean isTokenType(Claims claims,
+                               TokenType type) {
+        String tokenType = claims.get(TOKEN_TYPE, String.class);
+        return tokenType == null
+                ? type == TokenType.ACCESS
+                : tokenType.equals(type.name());
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Parses and verifies the token only once. Already verified tokens are served from
+     * VerifiedTokenCache until their expiration.
+     *
+     * @param token Compact JWT.
+     * @return Claims of the verified token or throws JwtException.
+     */
+    public Claims verifyToken(String token) {
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        Claims cached = this.verifiedTokenCache.get(token);
+        if (cached != null) {
+            sample.stop(this.verifyCachedTimer);
+            return cached;
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = this.jwtParser.parseClaimsJws(token).getBody();
+            this.verifiedTokenCache.put(token, claims);
+            sample.stop(this.verifyParsedTimer);
+            return claims;
         } catch (ExpiredJwtException
                  | UnsupportedJwtException
                  | MalformedJwtException
                  | SignatureException
                  | IllegalArgumentException ex) {
+            sample.stop(this.verifyInvalidTimer);
             throw new JwtException(ex.getMessage());
         }
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    /**
+     * Builds principal details only from verified claims, without password.
+     *
+     * @param claims Verified claims.
+     * @return UserSecurityDto - Id, Username, Email and Roles.
+     */
+    public UserSecurityDto getUserFromClaims(Claims claims) {
+        List<?> roles = claims.get(ROLES, List.class);
+        return UserSecurityDto.builder()
+                .id(claims.get(ID, Long.class))
+                .username(claims.getSubject())
+                .email(claims.get(EMAIL, String.class))
+                .roles(roles.stream().map(String::valueOf).toList())
+                .build();
+    }
+
+    /**
+     * @param claims Verified claims.
+     * @return true if token version is still the current one for that user.
+     */
+    public boolean isCurrentVersion(Claims claims) {
+        Long tokenVersion = claims.get(TOKEN_VERSION, Long.class);
+        return tokenVersion != null
+                && tokenVersionRegistry.isCurrent(claims.get(ID, Long.class), tokenVersion);
+    }
+
+    private Timer timer(String name,
+                        String description,
+                        String tagKey,
+                        String tagValue) {
+        return Timer.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(this.meterRegistry);
     }
 }
@@ -0,0 +1,128 @@
+package http.tasktracksystem.domain.security.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory index of revoked token IDs (jti), checked on every request.
+ * Bloom filter answers "not revoked" for almost every token without touching the exact set,
+ * the exact set removes false positives. Lookups do not allocate.
+ */
+@Component
+public class RevokedTokenIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    // grows together with the count of revoked tokens, so rebuilds stay rare
+    private int capacity;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+
+    public RevokedTokenIndex(@Value("${auth.token.revocation.expectedInsertions:100000}") int expectedInsertions) {
+        this.capacity = expectedInsertions;
+        this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null
+                && this.bloomFilter.mightContain(jti)
+                && this.revoked.containsKey(jti);
+    }
+
+    public synchronized void add(String jti, Instant expiresAt) {
+        this.revoked.put(jti, expiresAt);
+        this.bloomFilter.put(jti);
+        if (this.revoked.size() > this.capacity) {
+            this.capacity = Math.max(this.capacity * 2, this.revoked.size());
+            rebuild(Map.copyOf(this.revoked));
+        }
+    }
+
+    /**
+     * Replaces the whole content, expired tokens are skipped as they can not pass verification anyway.
+     *
+     * @param tokens jti with expiration of revoked tokens.
+     */
+    public synchronized void rebuild(Map<String, Instant> tokens) {
+        Instant now = Instant.now();
+        BloomFilter newFilter = new BloomFilter(Math.max(this.capacity, tokens.size()), FALSE_POSITIVE_RATE);
+        tokens.forEach((jti, expiresAt) -> {
+            if (expiresAt.isAfter(now)) {
+                newFilter.put(jti);
+            }
+        });
+
+        this.bloomFilter = newFilter;
+        this.revoked.entrySet().removeIf(entry -> !entry.getValue().isAfter(now));
+        tokens.forEach((jti, expiresAt) -> {
+            if (expiresAt.isAfter(now)) {
+                this.revoked.put(jti, expiresAt);
+            }
+        });
+    }
+
+    public int size() {
+        return this.revoked.size();
+    }
+
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        private BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long optimalBits = (long) (-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, optimalBits);
+            this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((this.bitCount + 63) / 64));
+        }
+
+        private void put(String value) {
+            long hash = hash64(value);
+            int first = (int) hash;
+            int second = (int) (hash >>> 32);
+            for (int i = 1; i <= this.hashCount; i++) {
+                long index = bitIndex(first + i * second);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = this.bits.get(word);
+                } while ((current & mask) == 0 && !this.bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(String value) {
+            long hash = hash64(value);
+            int first = (int) hash;
+            int second = (int) (hash >>> 32);
+            for (int i = 1; i <= this.hashCount; i++) {
+                long index = bitIndex(first + i * second);
+                if ((this.bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long bitIndex(int combinedHash) {
+            return (combinedHash & Integer.MAX_VALUE) % this.bitCount;
+        }
+
+        // FNV-1a over chars, avoids allocating byte arrays for every lookup
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
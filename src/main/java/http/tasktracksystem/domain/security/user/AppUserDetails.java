@@ -35,6 +35,10 @@ public class AppUserDetails implements UserDetails {
                 userAuthorities);
     }
 
+    public AppUserDetails withPassword(String password) {
+        return new AppUserDetails(this.id, this.username, this.email, password, this.authorities);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return this.authorities;
@@ -4,13 +4,14 @@ import http.tasktracksystem.domain.dtos.responses.UserSecurityDto;
 import http.tasktracksystem.domain.services.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @AllArgsConstructor
 @Service
-public class AppUserDetailsService implements UserDetailsService {
+public class AppUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService userService;
 
@@ -19,4 +20,14 @@ public class AppUserDetailsService implements UserDetailsService {
         UserSecurityDto userByUsername = this.userService.getUserForSecurity(username);
         return AppUserDetails.buildUserDetails(userByUsername);
     }
+
+    /**
+     * Called by DaoAuthenticationProvider after successful login when stored hash strength
+     * differs from the configured one.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        this.userService.rehashPassword(user.getUsername(), newPassword);
+        return ((AppUserDetails) user).withPassword(newPassword);
+    }
 }
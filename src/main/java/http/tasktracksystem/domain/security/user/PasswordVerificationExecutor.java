@@ -0,0 +1,109 @@
+package http.tasktracksystem.domain.security.user;
+
+import http.tasktracksystem.domain.exceptions.custom.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.LOGIN_OVERLOADED;
+
+/**
+ * Runs password verification on a dedicated bounded pool, so a login storm can not take all request threads.
+ * When the queue is full the login is rejected immediately with ServiceUnavailableException.
+ */
+@Slf4j
+@Component
+public class PasswordVerificationExecutor {
+
+    private static final String EXECUTOR_NAME = "password-verification";
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final Timer cpuTimer;
+    private final long retryAfterSeconds;
+
+    public PasswordVerificationExecutor(MeterRegistry meterRegistry,
+                                        @Value("${auth.login.threads:0}") int threads,
+                                        @Value("${auth.login.queueCapacity:100}") int queueCapacity,
+                                        @Value("${auth.login.retryAfterSeconds:2}") long retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, this.executor, EXECUTOR_NAME);
+        this.cpuTimer = Timer.builder("auth.login.cpu")
+                .description("CPU time spent on password verification")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param verification Password verification to be executed.
+     * @return Result of verification, exceptions thrown by verification are rethrown as they are.
+     */
+    public <T> T execute(Supplier<T> verification) {
+        Future<T> future;
+        try {
+            future = this.executor.submit(() -> measureCpu(verification));
+        } catch (RejectedExecutionException e) {
+            log.warn("Password verification queue is full, login rejected.");
+            throw new ServiceUnavailableException(LOGIN_OVERLOADED, this.retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(LOGIN_OVERLOADED, this.retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+    private <T> T measureCpu(Supplier<T> verification) {
+        long start = this.threadMXBean.getCurrentThreadCpuTime();
+        try {
+            return verification.get();
+        } finally {
+            this.cpuTimer.record(this.threadMXBean.getCurrentThreadCpuTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, EXECUTOR_NAME + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
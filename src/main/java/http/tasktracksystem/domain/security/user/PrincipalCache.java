@@ -0,0 +1,62 @@
+package http.tasktracksystem.domain.security.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import http.tasktracksystem.domain.events.UserSecurityChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache in front of AppUserDetailsService used to resolve principals of authenticated requests.
+ * Login always goes through AppUserDetailsService, so password checks never use cached data.
+ * Entries are dropped after commit of role change, delete or password change of the user.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final String CACHE_NAME = "principals";
+
+    private final AppUserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+    private final boolean enabled;
+
+    public PrincipalCache(AppUserDetailsService userDetailsService,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.principalCache.enabled:true}") boolean enabled,
+                          @Value("${auth.principalCache.maxSize:10000}") long maxSize,
+                          @Value("${auth.principalCache.ttlInSeconds:300}") long ttlInSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    /**
+     * @param username Username of authenticated user.
+     * @return UserDetails from cache or loaded by AppUserDetailsService.
+     */
+    public UserDetails loadUserByUsername(String username) {
+        if (!this.enabled) {
+            return this.userDetailsService.loadUserByUsername(username);
+        }
+        return this.cache.get(username, this.userDetailsService::loadUserByUsername);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        log.debug("Evicting principal of user: '{}'.", event.username());
+        this.cache.invalidate(event.username());
+    }
+}
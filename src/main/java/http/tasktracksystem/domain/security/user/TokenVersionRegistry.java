@@ -0,0 +1,58 @@
+package http.tasktracksystem.domain.security.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import http.tasktracksystem.domain.events.UserSecurityChangedEvent;
+import http.tasktracksystem.domain.services.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Per-user token version stored in USERS.TOKEN_VERSION. Every token carries the version valid at login,
+ * role change increments it in the same transaction and delete removes the user, so all older tokens are rejected.
+ * Versions are cached, entry is dropped after commit of the change and expires after ttlInSeconds,
+ * which bounds how long other instances accept revoked tokens.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final String CACHE_NAME = "token-versions";
+    private static final long DELETED = -1L;
+
+    private final UserService userService;
+    private final Cache<Long, Long> versions;
+
+    public TokenVersionRegistry(UserService userService,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.token.versionCache.maxSize:10000}") long maxSize,
+                                @Value("${auth.token.versionCache.ttlInSeconds:60}") long ttlInSeconds) {
+        this.userService = userService;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.versions, CACHE_NAME);
+    }
+
+    public long currentVersion(Long userId) {
+        return this.versions.get(userId, id -> this.userService.getTokenVersion(id).orElse(DELETED));
+    }
+
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        long current = currentVersion(userId);
+        return current != DELETED && current == tokenVersion;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        if (event.userId() != null) {
+            this.versions.invalidate(event.userId());
+        }
+    }
+}
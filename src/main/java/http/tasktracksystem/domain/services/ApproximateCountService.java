@@ -0,0 +1,90 @@
+package http.tasktracksystem.domain.services;
+
+import http.tasktracksystem.domain.entities.TaskEntity;
+import http.tasktracksystem.domain.entities.TaskGroupEntity;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Row counters per entity table, used for totals of listings in APPROXIMATE page mode.
+ * Counter is seeded with one COUNT query on first use, after that committed creates and deletes of this instance
+ * keep it up to date and it is reconciled with the table on a fixed delay,
+ * so writes of other instances are visible after the next refresh.
+ */
+@Slf4j
+@Service
+public class ApproximateCountService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<Class<?>, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param entityClass Entity of the counted table.
+     * @return Approximate count of rows.
+     */
+    public long count(Class<?> entityClass) {
+        return this.counters.computeIfAbsent(entityClass, type -> new AtomicLong(countRows(type))).get();
+    }
+
+    /**
+     * Rolled back writes never reach the counters, as the event is received only after commit.
+     *
+     * @param event Change published by task and task group writes.
+     */
+    @TransactionalEventListener
+    public void onChange(DomainChangeEvent event) {
+        Class<?> entityClass = switch (event.entity()) {
+            case TASK -> TaskEntity.class;
+            case TASK_GROUP -> TaskGroupEntity.class;
+            case USER -> null;
+        };
+        if (entityClass == null) {
+            return;
+        }
+
+        switch (event.type()) {
+            case CREATED -> add(entityClass, 1);
+            case BULK_CREATED -> add(entityClass, event.affected());
+            case DELETED -> add(entityClass, -1);
+            default -> {
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pagination.approximateCount.refreshInMils:600000}",
+            initialDelayString = "${pagination.approximateCount.refreshInMils:600000}")
+    public void refresh() {
+        this.counters.forEach((type, counter) -> {
+            try {
+                counter.set(countRows(type));
+            } catch (RuntimeException ex) {
+                log.warn("Row count of '{}' was not refreshed.", type.getSimpleName(), ex);
+            }
+        });
+    }
+
+    private void add(Class<?> entityClass, long delta) {
+        // not counted yet, it will be seeded with actual count on first read
+        AtomicLong counter = this.counters.get(entityClass);
+        if (counter != null) {
+            counter.addAndGet(delta);
+        }
+    }
+
+    private long countRows(Class<?> entityClass) {
+        return this.entityManager
+                .createQuery("SELECT COUNT(e) FROM " + entityClass.getSimpleName() + " e", Long.class)
+                .getSingleResult();
+    }
+}
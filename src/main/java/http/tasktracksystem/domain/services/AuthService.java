@@ -1,41 +1,113 @@
 package http.tasktracksystem.domain.services;
 
+import http.tasktracksystem.domain.dtos.responses.ApiResponse;
 import http.tasktracksystem.domain.dtos.responses.TokenResponse;
+import http.tasktracksystem.domain.enums.TokenType;
 import http.tasktracksystem.domain.security.jwt.JwtUtils;
 import http.tasktracksystem.domain.security.user.AppUserDetails;
+import http.tasktracksystem.domain.security.user.AppUserDetailsService;
+import http.tasktracksystem.domain.security.user.PasswordVerificationExecutor;
+import http.tasktracksystem.domain.utils.responses.GeneralUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
+
 @AllArgsConstructor
+@Timed(value = "service.auth", percentiles = {0.5, 0.95, 0.99})
 @Service
 public class AuthService {
 
     private final AuthenticationManager authManager;
     private final JwtUtils jwtUtils;
+    private final PasswordVerificationExecutor passwordVerificationExecutor;
+    private final AppUserDetailsService appUserDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
+     * Password verification runs on PasswordVerificationExecutor, when it is overloaded
+     * ServiceUnavailableException is thrown without touching the password.
+     *
      * @param username Username to be loggedIn.
      * @param password Password of the user.
-     * @return TokenResponse - Id,  Username, Email and Token.
+     * @return TokenResponse - Id,  Username, Email, Token and Refresh token.
      */
     public TokenResponse login(String username,
                                String password) {
-        Authentication authentication = authManager.authenticate(
+        Authentication authentication = this.passwordVerificationExecutor.execute(() -> authManager.authenticate(
                 new UsernamePasswordAuthenticationToken(username, password)
-        );
+        ));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        AppUserDetails principal = (AppUserDetails) authentication.getPrincipal();
+        return buildTokenResponse((AppUserDetails) authentication.getPrincipal());
+    }
+
+    /**
+     * Refresh tokens are single use, the given one is revoked and a new pair is issued.
+     * User is loaded again, so role changes are reflected in the new access token.
+     *
+     * @param refreshToken Refresh token from login or previous refresh.
+     * @return TokenResponse - Id,  Username, Email, Token and Refresh token.
+     */
+    public TokenResponse refresh(String refreshToken) {
+        Claims claims = this.jwtUtils.verifyToken(refreshToken);
+        if (!this.jwtUtils.isTokenType(claims, TokenType.REFRESH)) {
+            throw new JwtException(INVALID_TOKEN_TYPE);
+        }
+        // revoking is atomic, from concurrent refreshes with the same token only one gets new tokens
+        if (!this.tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant())) {
+            throw new JwtException(TOKEN_REVOKED);
+        }
+
+        AppUserDetails principal = (AppUserDetails) this.appUserDetailsService.loadUserByUsername(claims.getSubject());
+        return buildTokenResponse(principal);
+    }
+
+    /**
+     * @param accessToken  Access token of the current request.
+     * @param refreshToken Refresh token to be revoked as well (Optional), it must be issued to the same user.
+     * @return ApiResponse based on given parameters.
+     */
+    public ApiResponse<Map<String, Object>> logout(String accessToken,
+                                                   String refreshToken) {
+        Claims accessClaims = this.jwtUtils.verifyToken(accessToken);
+        Claims refreshClaims = null;
+        if (StringUtils.isNotBlank(refreshToken)) {
+            refreshClaims = this.jwtUtils.verifyToken(refreshToken);
+            if (!accessClaims.getSubject().equals(refreshClaims.getSubject())) {
+                throw new AccessDeniedException(TOKEN_OF_OTHER_USER);
+            }
+        }
+
+        revokeToken(accessClaims);
+        if (refreshClaims != null) {
+            revokeToken(refreshClaims);
+        }
+        return GeneralUtils.buildApiResponse(LOGOUT_USER);
+    }
+
+    private void revokeToken(Claims claims) {
+        this.tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+    }
 
+    private TokenResponse buildTokenResponse(AppUserDetails principal) {
         return TokenResponse.builder()
                 .id(principal.getId())
                 .username(principal.getUsername())
                 .email(principal.getEmail())
-                .token(jwtUtils.generateTokenForUser(authentication))
+                .token(this.jwtUtils.generateAccessToken(principal))
+                .refreshToken(this.jwtUtils.generateRefreshToken(principal))
                 .build();
     }
 }
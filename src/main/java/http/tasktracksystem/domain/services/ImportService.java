@@ -0,0 +1,508 @@
+package http.tasktracksystem.domain.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import http.tasktracksystem.domain.dtos.requests.ImportRow;
+import http.tasktracksystem.domain.dtos.requests.TaskBatchCreateRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskCreateRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskGroupRequest;
+import http.tasktracksystem.domain.dtos.responses.ImportJobResponse;
+import http.tasktracksystem.domain.dtos.responses.ImportRowErrorResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskBatchItemResponse;
+import http.tasktracksystem.domain.entities.ImportJobEntity;
+import http.tasktracksystem.domain.entities.ImportJobErrorEntity;
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.ImportJobStatus;
+import http.tasktracksystem.domain.enums.ImportRowType;
+import http.tasktracksystem.domain.enums.TaskGroupStatus;
+import http.tasktracksystem.domain.enums.TaskStatus;
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.exceptions.custom.PreconditionFailedException;
+import http.tasktracksystem.domain.repositories.ImportJobErrorRepository;
+import http.tasktracksystem.domain.repositories.ImportJobRepository;
+import http.tasktracksystem.domain.security.user.AppUserDetails;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * Uploaded file is parsed row by row and rows are stored in chunks of imports.chunkSize, each chunk in its own
+ * transaction together with progress of the job. Body is read only as fast as chunks are committed, so a slow
+ * database slows down the client instead of buffering rows in memory. Upload of the same file to FAILED job
+ * skips already committed rows and continues with the next chunk.
+ */
+@Slf4j
+@Service
+public class ImportService {
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .build();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobErrorRepository importJobErrorRepository;
+    private final TaskService taskService;
+    private final TaskGroupService taskGroupService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public ImportService(ImportJobRepository importJobRepository,
+                         ImportJobErrorRepository importJobErrorRepository,
+                         TaskService taskService,
+                         TaskGroupService taskGroupService,
+                         Validator validator,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${imports.chunkSize:500}") int chunkSize,
+                         @Value("${imports.maxErrors:1000}") int maxErrors) {
+        this.importJobRepository = importJobRepository;
+        this.importJobErrorRepository = importJobErrorRepository;
+        this.taskService = taskService;
+        this.taskGroupService = taskGroupService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * @param format  Format of the file to be uploaded.
+     * @param creator Authenticated user, imported tasks are created by this user.
+     * @return ImportJobResponse of PENDING job.
+     */
+    @Transactional
+    public ImportJobResponse create(DataFormat format,
+                                    AppUserDetails creator) {
+        ImportJobEntity job = this.importJobRepository.save(ImportJobEntity.builder()
+                .status(ImportJobStatus.PENDING)
+                .format(format)
+                .createdById(creator.getId())
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+
+        return toResponse(job, List.of());
+    }
+
+    /**
+     * @param jobId ID of import job.
+     * @return Progress of the job with stored row errors.
+     */
+    @Transactional(readOnly = true)
+    public ImportJobResponse getById(Long jobId) {
+        ImportJobEntity job = getJobById(jobId);
+        return toResponse(job, this.importJobErrorRepository.findAllByJobIdOrderByRowNumber(jobId));
+    }
+
+    /**
+     * Not transactional, every chunk is committed on its own. Failure of a chunk rolls back only that chunk
+     * and marks the job as FAILED, rows of previous chunks stay stored.
+     *
+     * @param jobId   ID of not completed import job.
+     * @param input   Body of the request in the format of the job.
+     * @param creator Authenticated user, imported tasks are created by this user.
+     * @return Progress of the job after the upload.
+     */
+    public ImportJobResponse upload(Long jobId,
+                                    InputStream input,
+                                    AppUserDetails creator) {
+        ImportJobEntity job = this.transactionTemplate.execute(status -> start(jobId));
+        ImportProgress progress = new ImportProgress(jobId, Objects.requireNonNull(job).getVersion(), job.getCommittedRows());
+
+        try (MappingIterator<ImportRow> rows = openRows(job.getFormat(), input)) {
+            readRows(rows, progress, creator);
+            this.transactionTemplate.executeWithoutResult(status -> finish(progress, ImportJobStatus.COMPLETED, null));
+        } catch (PreconditionFailedException e) {
+            // job was taken over by another upload, its state is not changed from here
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import job '{}' failed after {} committed rows.", jobId, progress.committedRows, e);
+            String message = StringUtils.abbreviate(failureMessage(e, progress), MAX_MESSAGE_LENGTH);
+            this.transactionTemplate.executeWithoutResult(status -> finish(progress, ImportJobStatus.FAILED, message));
+        }
+
+        return getById(jobId);
+    }
+
+    private ImportJobEntity start(Long jobId) {
+        ImportJobEntity job = getJobById(jobId);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            throw new InvalidRequestException(formatRow(IMPORT_JOB_COMPLETED, jobId));
+        }
+
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setMessage(null);
+        job.setUpdatedAt(Instant.now());
+        this.importJobRepository.save(job);
+        this.importJobRepository.flush();
+        return job;
+    }
+
+    private void finish(ImportProgress progress,
+                        ImportJobStatus status,
+                        String message) {
+        ImportJobEntity job = getJobForUpdate(progress);
+        job.setStatus(status);
+        job.setMessage(message);
+        job.setUpdatedAt(Instant.now());
+        this.importJobRepository.save(job);
+    }
+
+    private MappingIterator<ImportRow> openRows(DataFormat format,
+                                                InputStream input) throws IOException {
+        return format == DataFormat.CSV
+                ? CSV_MAPPER.readerFor(ImportRow.class).with(CSV_SCHEMA).readValues(input)
+                : this.objectMapper.readerFor(ImportRow.class).readValues(input);
+    }
+
+    private void readRows(MappingIterator<ImportRow> rows,
+                          ImportProgress progress,
+                          AppUserDetails creator) throws IOException {
+        long committedRows = progress.committedRows;
+        long rowNumber = 0;
+        Chunk chunk = new Chunk();
+
+        while (true) {
+            ImportRow row;
+            try {
+                if (!rows.hasNextValue()) {
+                    break;
+                }
+                row = rows.nextValue();
+            } catch (DatabindException e) {
+                // value of wrong type, iterator skips the rest of this row and continues with the next one
+                rowNumber++;
+                progress.readRows = rowNumber;
+                if (rowNumber > committedRows) {
+                    chunk.add(new RowError(rowNumber, formatRow(IMPORT_ROW_UNREADABLE, rowNumber, e.getOriginalMessage())));
+                }
+                continue;
+            }
+
+            rowNumber++;
+            progress.readRows = rowNumber;
+            // rows of already committed chunks are uploaded again on resume
+            if (rowNumber <= committedRows) {
+                continue;
+            }
+
+            chunk.add(new NumberedRow(rowNumber, row));
+            if (chunk.size() >= this.chunkSize) {
+                commitChunk(chunk, progress, creator);
+                chunk = new Chunk();
+            }
+        }
+
+        if (chunk.size() > 0) {
+            commitChunk(chunk, progress, creator);
+        }
+    }
+
+    private void commitChunk(Chunk chunk,
+                             ImportProgress progress,
+                             AppUserDetails creator) {
+        ImportJobEntity job = this.transactionTemplate.execute(status -> {
+            ImportJobEntity current = getJobForUpdate(progress);
+            List<RowError> errors = new ArrayList<>(chunk.errors);
+
+            long createdGroups = importGroups(chunk.rowsOf(ImportRowType.GROUP), errors);
+            long createdTasks = importTasks(chunk.rowsOf(ImportRowType.TASK), errors, creator);
+            chunk.rowsWithoutType().forEach(row -> errors.add(new RowError(row.number(),
+                    formatRow(INVALID_IMPORT_ROW_TYPE, row.row().type(), Arrays.toString(ImportRowType.values())))));
+
+            storeErrors(current, errors);
+            current.setCommittedRows(chunk.lastRowNumber());
+            current.setCreatedGroups(current.getCreatedGroups() + createdGroups);
+            current.setCreatedTasks(current.getCreatedTasks() + createdTasks);
+            current.setFailedRows(current.getFailedRows() + errors.size());
+            current.setUpdatedAt(Instant.now());
+            this.importJobRepository.save(current);
+            this.importJobRepository.flush();
+            return current;
+        });
+
+        progress.version = Objects.requireNonNull(job).getVersion();
+        progress.committedRows = job.getCommittedRows();
+    }
+
+    private long importGroups(List<NumberedRow> rows,
+                              List<RowError> errors) {
+        List<NumberedRow> validRows = new ArrayList<>(rows.size());
+        List<TaskGroupRequest> requests = new ArrayList<>(rows.size());
+
+        for (NumberedRow numberedRow : rows) {
+            ImportRow row = numberedRow.row();
+            TaskGroupStatus status;
+            try {
+                status = parseStatus(row.status(), TaskGroupStatus.class);
+            } catch (InvalidRequestException e) {
+                errors.add(new RowError(numberedRow.number(), e.getMessage()));
+                continue;
+            }
+
+            TaskGroupRequest request = new TaskGroupRequest(row.name(), status);
+            if (isValid(numberedRow, request, errors)) {
+                validRows.add(numberedRow);
+                requests.add(request);
+            }
+        }
+
+        return collectResults(validRows, requests.isEmpty() ? List.of() : this.taskGroupService.createAll(requests), errors);
+    }
+
+    private long importTasks(List<NumberedRow> rows,
+                             List<RowError> errors,
+                             AppUserDetails creator) {
+        // groups of the same chunk are already inserted, so they are found as well, by name key as DB compares them
+        Map<String, Long> groupIds = this.taskGroupService.getTaskGroupIdsByNames(rows.stream()
+                        .map(row -> row.row().taskGroupName())
+                        .filter(StringUtils::isNotBlank)
+                        .collect(Collectors.toSet()))
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(entry -> TaskGroupService.nameKey(entry.getKey()), Map.Entry::getValue));
+
+        List<NumberedRow> validRows = new ArrayList<>(rows.size());
+        List<TaskCreateRequest> requests = new ArrayList<>(rows.size());
+
+        for (NumberedRow numberedRow : rows) {
+            ImportRow row = numberedRow.row();
+            TaskStatus status;
+            try {
+                status = parseStatus(row.status(), TaskStatus.class);
+            } catch (InvalidRequestException e) {
+                errors.add(new RowError(numberedRow.number(), e.getMessage()));
+                continue;
+            }
+
+            Long taskGroupId = row.taskGroupId();
+            if (StringUtils.isNotBlank(row.taskGroupName())) {
+                taskGroupId = groupIds.get(TaskGroupService.nameKey(row.taskGroupName()));
+                if (taskGroupId == null) {
+                    errors.add(new RowError(numberedRow.number(), formatRow(TASK_GROUP_NAME_NOT_FOUND, row.taskGroupName())));
+                    continue;
+                }
+            }
+
+            TaskCreateRequest request = TaskCreateRequest.builder()
+                    .title(row.title())
+                    .description(row.description())
+                    .status(status)
+                    .assignedToUsername(row.assignedToUsername())
+                    .taskGroupId(taskGroupId)
+                    .build();
+            if (isValid(numberedRow, request, errors)) {
+                validRows.add(numberedRow);
+                requests.add(request);
+            }
+        }
+
+        List<TaskBatchItemResponse> items = requests.isEmpty()
+                ? List.of()
+                : this.taskService.createBatch(new TaskBatchCreateRequest(requests), creator).items();
+        return collectResults(validRows, items, errors);
+    }
+
+    private long collectResults(List<NumberedRow> rows,
+                                List<TaskBatchItemResponse> items,
+                                List<RowError> errors) {
+        long created = 0;
+        for (TaskBatchItemResponse item : items) {
+            if (item.error() == null) {
+                created++;
+            } else {
+                errors.add(new RowError(rows.get(item.index()).number(), item.error()));
+            }
+        }
+        return created;
+    }
+
+    private boolean isValid(NumberedRow row,
+                            Object request,
+                            List<RowError> errors) {
+        Set<ConstraintViolation<Object>> violations = this.validator.validate(request);
+        if (violations.isEmpty()) {
+            return true;
+        }
+
+        errors.add(new RowError(row.number(), violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "))));
+        return false;
+    }
+
+    /**
+     * @return Status by name ignoring case, null when not present.
+     */
+    private static <E extends Enum<E>> E parseStatus(String status,
+                                                     Class<E> type) {
+        if (StringUtils.isBlank(status)) {
+            return null;
+        }
+
+        return Arrays.stream(type.getEnumConstants())
+                .filter(value -> value.name().equalsIgnoreCase(status.trim()))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException(
+                        formatRow(INVALID_IMPORT_STATUS, status, Arrays.toString(type.getEnumConstants()))));
+    }
+
+    /**
+     * Only first imports.maxErrors errors of the job are stored, the rest are counted in failed rows.
+     */
+    private void storeErrors(ImportJobEntity job,
+                             List<RowError> errors) {
+        long capacity = this.maxErrors - Math.min(job.getFailedRows(), this.maxErrors);
+        List<ImportJobErrorEntity> stored = errors.stream()
+                .sorted(Comparator.comparingLong(RowError::number))
+                .limit(capacity)
+                .map(error -> ImportJobErrorEntity.builder()
+                        .jobId(job.getId())
+                        .rowNumber(error.number())
+                        .message(StringUtils.abbreviate(error.message(), MAX_MESSAGE_LENGTH))
+                        .build())
+                .toList();
+        this.importJobErrorRepository.saveAll(stored);
+    }
+
+    private ImportJobEntity getJobById(Long jobId) {
+        return this.importJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(formatRow(IMPORT_JOB_ID_NOT_FOUND, jobId)));
+    }
+
+    /**
+     * Version is incremented by every chunk, other version means another upload of the same job was started.
+     */
+    private ImportJobEntity getJobForUpdate(ImportProgress progress) {
+        ImportJobEntity job = getJobById(progress.jobId);
+        if (!job.getVersion().equals(progress.version)) {
+            throw new PreconditionFailedException(formatRow(IMPORT_JOB_CONFLICT, progress.jobId));
+        }
+        return job;
+    }
+
+    private static String failureMessage(Exception e,
+                                         ImportProgress progress) {
+        if (e instanceof JsonProcessingException parseException) {
+            return formatRow(IMPORT_ROW_UNREADABLE, progress.readRows + 1, parseException.getOriginalMessage());
+        }
+        return e.getMessage();
+    }
+
+    private ImportJobResponse toResponse(ImportJobEntity job,
+                                         List<ImportJobErrorEntity> errors) {
+        return ImportJobResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .format(job.getFormat())
+                .committedRows(job.getCommittedRows())
+                .createdGroups(job.getCreatedGroups())
+                .createdTasks(job.getCreatedTasks())
+                .failedRows(job.getFailedRows())
+                .message(job.getMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .errors(errors.stream()
+                        .map(error -> new ImportRowErrorResponse(error.getRowNumber(), error.getMessage()))
+                        .toList())
+                .build();
+    }
+
+    private static final class ImportProgress {
+        private final Long jobId;
+        private Long version;
+        private long committedRows;
+        private long readRows;
+
+        private ImportProgress(Long jobId,
+                               Long version,
+                               long committedRows) {
+            this.jobId = jobId;
+            this.version = version;
+            this.committedRows = committedRows;
+        }
+    }
+
+    private record NumberedRow(long number,
+                               ImportRow row) {
+    }
+
+    private record RowError(long number,
+                            String message) {
+    }
+
+    /**
+     * Rows read since the last commit, never more than imports.chunkSize.
+     */
+    private static final class Chunk {
+        private final List<NumberedRow> rows = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private long lastRowNumber;
+
+        private void add(NumberedRow row) {
+            this.rows.add(row);
+            this.lastRowNumber = row.number();
+        }
+
+        private void add(RowError error) {
+            this.errors.add(error);
+            this.lastRowNumber = error.number();
+        }
+
+        private int size() {
+            return this.rows.size() + this.errors.size();
+        }
+
+        private long lastRowNumber() {
+            return this.lastRowNumber;
+        }
+
+        private List<NumberedRow> rowsOf(ImportRowType type) {
+            return this.rows.stream()
+                    .filter(row -> ImportRowType.from(row.row().type()).filter(type::equals).isPresent())
+                    .toList();
+        }
+
+        private List<NumberedRow> rowsWithoutType() {
+            return this.rows.stream()
+                    .filter(row -> ImportRowType.from(row.row().type()).isEmpty())
+                    .toList();
+        }
+    }
+}
@@ -4,40 +4,93 @@ import http.tasktracksystem.domain.entities.RoleEntity;
 import http.tasktracksystem.domain.enums.RoleType;
 import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
 import http.tasktracksystem.domain.repositories.RoleRepository;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
 import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
 
-@AllArgsConstructor
+/**
+ * Roles are a small static set seeded by Liquibase, so they are kept in memory and resolved without queries.
+ * Registry is loaded on startup and reloaded on demand or when a role is missing.
+ * Returned entities are detached, they are only used as references of user roles.
+ */
+@Slf4j
+@RequiredArgsConstructor
 @Service
 public class RoleService {
 
     private final RoleRepository roleRepository;
 
+    private volatile Map<RoleType, RoleEntity> registry;
+
     /**
      * Package private as it could be reachable only from domain
      *
      * @return RoleEntity if present or throws NotFoundException.
      */
     RoleEntity findUserRole() {
-        return roleRepository.findByName(ROLE_USER)
-                .orElseThrow(() -> new NotFoundException(formatRow(ROLE_NOT_FOUND, ROLE_USER)));
+        return findByType(RoleType.ROLE_USER);
     }
 
     Set<RoleEntity> findAllByNames(Set<RoleType> roles) {
-        Set<RoleEntity> allRoles = this.roleRepository.findAllByNameIn(mapToName(roles));
-        if (allRoles.isEmpty()) {
+        if (roles.isEmpty()) {
             throw new NotFoundException(ROLES_NOT_FOUND);
         }
-        return allRoles;
+
+        return roles.stream()
+                .map(this::findByType)
+                .collect(Collectors.toSet());
     }
 
-    private Set<String> mapToName(Set<RoleType> roles) {
-        return roles.stream().map(RoleType::name).collect(Collectors.toSet());
+    /**
+     * Reloads all roles with one query.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        Map<RoleType, RoleEntity> roles = new EnumMap<>(RoleType.class);
+        for (RoleEntity role : this.roleRepository.findAll()) {
+            Arrays.stream(RoleType.values())
+                    .filter(type -> type.name().equals(role.getName()))
+                    .findFirst()
+                    .ifPresentOrElse(
+                            type -> roles.put(type, role),
+                            () -> log.warn("Role '{}' has no matching RoleType and is not registered.", role.getName()));
+        }
+
+        this.registry = Collections.unmodifiableMap(roles);
+        log.info("Role registry loaded with {} roles.", roles.size());
+    }
+
+    private RoleEntity findByType(RoleType type) {
+        RoleEntity role = registry().get(type);
+        if (role == null) {
+            // role could be added after the registry was loaded
+            refresh();
+            role = this.registry.get(type);
+        }
+        if (role == null) {
+            throw new NotFoundException(formatRow(ROLE_NOT_FOUND, type.name()));
+        }
+        return role;
+    }
+
+    private Map<RoleType, RoleEntity> registry() {
+        Map<RoleType, RoleEntity> roles = this.registry;
+        if (roles == null) {
+            refresh();
+            roles = this.registry;
+        }
+        return roles;
     }
 }
@@ -0,0 +1,146 @@
+package http.tasktracksystem.domain.services;
+
+import http.tasktracksystem.domain.dtos.responses.SyncResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskGroupChangeResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskResponse;
+import http.tasktracksystem.domain.dtos.responses.TombstoneResponse;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository.Changed;
+import http.tasktracksystem.domain.utils.pagination.SyncToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class SyncService {
+
+    // rows created before delta sync have CHANGE_SEQ 0, first sync without token returns them as well
+    private static final long BEFORE_FIRST_CHANGE = -1L;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final int maxChanges;
+    private final long leaseTimeoutInMils;
+
+    public SyncService(ChangeLogRepository changeLogRepository,
+                       @Value("${sync.maxChanges:1000}") int maxChanges,
+                       @Value("${sync.leaseTimeoutInMils:300000}") long leaseTimeoutInMils) {
+        this.changeLogRepository = changeLogRepository;
+        this.maxChanges = maxChanges;
+        this.leaseTimeoutInMils = leaseTimeoutInMils;
+    }
+
+    /**
+     * Read-only, so it is served by replica when enabled. Token never gets ahead of the data it was read with,
+     * as both come from the same snapshot.
+     * Response ends on boundary of change sequence when possible, so rows of one write are not split between
+     * two responses. Up to maxChanges rows per kind are returned, one write changing more rows than that
+     * is paged inside its change sequence by ID.
+     *
+     * @param token Token from previous sync, null for full sync.
+     * @return SyncResponse with changes after the token.
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse changesSince(String token) {
+        SyncToken since = SyncToken.decode(token);
+        SyncToken from = since != null ? since : new SyncToken(BEFORE_FIRST_CHANGE);
+        long until = this.changeLogRepository.current();
+        if (from.changeSeq() >= until) {
+            // token from primary could be ahead of lagging replica, nothing new is visible yet
+            return new SyncResponse(List.of(), List.of(), List.of(), false, from.encode());
+        }
+
+        long next = from.changeSeq() + 1;
+        int limit = this.maxChanges + 1;
+        List<Changed<TaskResponse>> tasks = this.changeLogRepository.findTasks(next, from.taskId(), until, limit);
+        List<Changed<TaskGroupChangeResponse>> groups = this.changeLogRepository.findTaskGroups(next, from.taskGroupId(), until, limit);
+        List<Changed<TombstoneResponse>> deleted = this.changeLogRepository.findTombstones(next, from.tombstoneId(), until, limit);
+
+        long last = Math.min(lastComplete(tasks, until), Math.min(lastComplete(groups, until), lastComplete(deleted, until)));
+        long first = Stream.of(tasks, groups, deleted)
+                .filter(changes -> !changes.isEmpty())
+                .mapToLong(changes -> changes.get(0).changeSeq())
+                .min()
+                .orElse(until);
+        if (first > last) {
+            // the first write changed more than maxChanges rows of some kind, it is continued after the last IDs
+            List<Changed<TaskResponse>> taskPage = pageOf(tasks, first);
+            List<Changed<TaskGroupChangeResponse>> groupPage = pageOf(groups, first);
+            List<Changed<TombstoneResponse>> deletedPage = pageOf(deleted, first);
+            boolean continued = first == next;
+            return new SyncResponse(
+                    values(taskPage),
+                    values(groupPage),
+                    values(deletedPage),
+                    true,
+                    new SyncToken(
+                            first - 1,
+                            lastId(taskPage, continued ? from.taskId() : 0L),
+                            lastId(groupPage, continued ? from.taskGroupId() : 0L),
+                            lastId(deletedPage, continued ? from.tombstoneId() : 0L)).encode());
+        }
+
+        return new SyncResponse(
+                values(upTo(tasks, last)),
+                values(upTo(groups, last)),
+                values(upTo(deleted, last)),
+                last < until,
+                new SyncToken(last).encode());
+    }
+
+    /**
+     * Writers release their leases at completion, expired ones are left by writers which died before it.
+     */
+    @Scheduled(fixedDelayString = "${sync.leaseTimeoutInMils:300000}")
+    public void deleteExpiredLeases() {
+        int deleted = this.changeLogRepository.deleteLeasesCreatedBefore(Instant.now().minusMillis(this.leaseTimeoutInMils));
+        if (deleted > 0) {
+            log.warn("Deleted {} expired change sequence leases.", deleted);
+        }
+    }
+
+    /**
+     * @return Last change sequence fully contained in the rows, until when all matching rows were loaded.
+     */
+    private long lastComplete(List<? extends Changed<?>> changes,
+                              long until) {
+        return changes.size() > this.maxChanges
+                ? changes.get(this.maxChanges).changeSeq() - 1
+                : until;
+    }
+
+    /**
+     * @return Rows of the change sequence among the first maxChanges ones.
+     */
+    private <T> List<Changed<T>> pageOf(List<Changed<T>> changes,
+                                        long changeSeq) {
+        return changes.stream()
+                .limit(this.maxChanges)
+                .filter(change -> change.changeSeq() == changeSeq)
+                .toList();
+    }
+
+    private static <T> List<Changed<T>> upTo(List<Changed<T>> changes,
+                                             long last) {
+        return changes.stream()
+                .filter(change -> change.changeSeq() <= last)
+                .toList();
+    }
+
+    private static <T> List<T> values(List<Changed<T>> changes) {
+        return changes.stream()
+                .map(Changed::value)
+                .toList();
+    }
+
+    private static long lastId(List<? extends Changed<?>> changes,
+                               long previous) {
+        return changes.isEmpty() ? previous : changes.get(changes.size() - 1).id();
+    }
+}
@@ -0,0 +1,51 @@
+package http.tasktracksystem.domain.services;
+
+import http.tasktracksystem.domain.dtos.responses.PageResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskAuditResponse;
+import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.repositories.TaskAuditRepository;
+import http.tasktracksystem.domain.repositories.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.TASK_ID_NOT_FOUND;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+@RequiredArgsConstructor
+@Service
+public class TaskAuditService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskAuditRepository taskAuditRepository;
+    private final TaskRepository taskRepository;
+
+    /**
+     * Entries are written asynchronously, the latest change could appear with delay of audit.flushIntervalInMils.
+     *
+     * @param taskId     ID of the task.
+     * @param pageNumber The number of the page.
+     * @param size       Count of entries in page, between 1 and MAX_PAGE_SIZE.
+     * @return PageResponse of changed fields, newest first, without totals.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<TaskAuditResponse> getHistory(Long taskId,
+                                                      int pageNumber,
+                                                      int size) {
+        if (!this.taskRepository.existsById(taskId)) {
+            throw new NotFoundException(formatRow(TASK_ID_NOT_FOUND, taskId));
+        }
+
+        PageRequest pageable = PageRequest.of(Math.max(0, pageNumber), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return new PageResponse<>(this.taskAuditRepository.findAllByTaskIdOrderByIdDesc(taskId, pageable)
+                .map(entry -> new TaskAuditResponse(
+                        entry.getField(),
+                        entry.getOldValue(),
+                        entry.getNewValue(),
+                        entry.getVersion(),
+                        entry.getChangedBy(),
+                        entry.getChangedAt())));
+    }
+}
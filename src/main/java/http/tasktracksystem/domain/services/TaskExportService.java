@@ -0,0 +1,148 @@
+package http.tasktracksystem.domain.services;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.TaskExportColumn;
+import http.tasktracksystem.domain.repositories.TaskExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Writes every row to the output as soon as it is read, memory usage does not depend on count of exported tasks.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TaskExportService {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final CsvFactory CSV_FACTORY = CsvFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final TaskExportRepository taskExportRepository;
+
+    /**
+     * Read-only, so it is served by replica when enabled.
+     *
+     * @param format  NDJSON or CSV.
+     * @param columns Columns in the order to be written.
+     * @param output  Response stream, it is not closed.
+     * @return Count of exported tasks.
+     */
+    @Transactional(readOnly = true)
+    public long export(DataFormat format,
+                       List<TaskExportColumn> columns,
+                       OutputStream output) throws IOException {
+        long startedAt = System.nanoTime();
+        long[] rows = {0};
+        // instants are stored as UTC timestamps
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+
+        try (JsonGenerator generator = createGenerator(format, columns, output)) {
+            this.taskExportRepository.streamAll(columns, resultSet -> {
+                writeRow(generator, format, columns, resultSet, utc);
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Exported {} tasks as {} in {} ms.", rows[0], format, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows[0];
+    }
+
+    private JsonGenerator createGenerator(DataFormat format,
+                                          List<TaskExportColumn> columns,
+                                          OutputStream output) throws IOException {
+        if (format == DataFormat.CSV) {
+            CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+            columns.forEach(column -> schema.addColumn(column.getAlias()));
+
+            JsonGenerator generator = CSV_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+            generator.setSchema(schema.build());
+            return generator;
+        }
+
+        JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+        // rows are separated by new line written after each object
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private void writeRow(JsonGenerator generator,
+                          DataFormat format,
+                          List<TaskExportColumn> columns,
+                          ResultSet resultSet,
+                          Calendar utc) throws SQLException {
+        try {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                TaskExportColumn column = columns.get(i);
+                generator.writeFieldName(column.getAlias());
+                writeValue(generator, column, resultSet, i + 1, utc);
+            }
+            generator.writeEndObject();
+
+            if (format == DataFormat.NDJSON) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            // client disconnected, stops reading of the rows
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(JsonGenerator generator,
+                            TaskExportColumn column,
+                            ResultSet resultSet,
+                            int index,
+                            Calendar utc) throws SQLException, IOException {
+        switch (column.getType()) {
+            case NUMBER -> {
+                long value = resultSet.getLong(index);
+                if (resultSet.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            }
+            case TEXT -> {
+                String value = resultSet.getString(index);
+                if (value == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeString(value);
+                }
+            }
+            case TIMESTAMP -> {
+                Timestamp value = resultSet.getTimestamp(index, utc);
+                if (value == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeString(value.toInstant().toString());
+                }
+            }
+        }
+    }
+}
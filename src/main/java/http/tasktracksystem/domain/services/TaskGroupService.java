@@ -1,86 +1,126 @@
 package http.tasktracksystem.domain.services;
 
+import http.tasktracksystem.domain.dtos.projections.TaskProjection;
 import http.tasktracksystem.domain.dtos.requests.TaskGroupRequest;
 import http.tasktracksystem.domain.dtos.responses.ApiResponse;
+import http.tasktracksystem.domain.dtos.responses.PageResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskBatchItemResponse;
 import http.tasktracksystem.domain.dtos.responses.TaskGroupResponse;
 import http.tasktracksystem.domain.dtos.responses.TaskResponse;
-import http.tasktracksystem.domain.entities.TaskEntity;
 import http.tasktracksystem.domain.entities.TaskGroupEntity;
+import http.tasktracksystem.domain.enums.ChangeType;
+import http.tasktracksystem.domain.enums.PageMode;
+import http.tasktracksystem.domain.enums.TaskGroupSortField;
 import http.tasktracksystem.domain.enums.TaskGroupStatus;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
 import http.tasktracksystem.domain.exceptions.custom.AlreadyExistsException;
 import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository;
 import http.tasktracksystem.domain.repositories.TaskGroupRepository;
+import http.tasktracksystem.domain.repositories.TaskRepository;
+import http.tasktracksystem.domain.utils.mappers.TaskMapper;
 import http.tasktracksystem.domain.utils.responses.GeneralUtils;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
 import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
 
 @Slf4j
-@AllArgsConstructor
+@Timed(value = "service.task.groups", percentiles = {0.5, 0.95, 0.99})
 @Service
 public class TaskGroupService {
 
+    private static final String LIST_TIMER = "task_groups.list";
+
     private final TaskGroupRepository taskGroupRepository;
+    private final TaskRepository taskRepository;
+    private final ApproximateCountService approximateCountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLogRepository changeLogRepository;
+    private final Map<TaskGroupSortField, Map<PageMode, Timer>> listTimers;
+
+    public TaskGroupService(TaskGroupRepository taskGroupRepository,
+                            TaskRepository taskRepository,
+                            ApproximateCountService approximateCountService,
+                            MeterRegistry meterRegistry,
+                            ApplicationEventPublisher eventPublisher,
+                            ChangeLogRepository changeLogRepository) {
+        this.taskGroupRepository = taskGroupRepository;
+        this.taskRepository = taskRepository;
+        this.approximateCountService = approximateCountService;
+        this.eventPublisher = eventPublisher;
+        this.changeLogRepository = changeLogRepository;
+        this.listTimers = listTimers(meterRegistry);
+    }
 
     /**
      * @param request TaskGroupRequest - Name, Status details.
      * @return ApiResponse based on given parameters.
      */
+    @Transactional
     public ApiResponse<Map<String, Object>> create(TaskGroupRequest request) {
         if (taskGroupRepository.existsByName(request.name())) {
             log.error("Task group name: '{}' already exists.", request.name());
             throw new AlreadyExistsException(formatRow(TASK_GROUP_ALREADY_EXISTS, request.name()));
         }
 
-        TaskGroupEntity createGroup = this.taskGroupRepository.saveAndFlush(createNewGroup(request));
+        TaskGroupEntity createGroup = this.taskGroupRepository.save(createNewGroup(request, this.changeLogRepository.next()));
+        this.eventPublisher.publishEvent(DomainChangeEvent.ofTaskGroup(ChangeType.CREATED, createGroup));
 
         return GeneralUtils.buildApiResponse(
                 CREATE_TASK_GROUP,
                 Map.of(ID, createGroup.getId(),
                         NAME, createGroup.getName(),
                         STATUS, createGroup.getStatus(),
-                        CREATED_AT, createGroup.getCreatedAt())
+                        CREATED_AT, createGroup.getCreatedAt(),
+                        VERSION, createGroup.getVersion())
         );
     }
 
     /**
      * @param pageNumber The number of the page.
      * @param size       Count entities from that page.
-     * @param sortBy     ID, NAME, STATUS or DATE.
+     * @param sortBy     ID, NAME, STATUS or CREATED_AT.
      * @param direction  Sort ASC or DESC
-     * @return Page<TaskGroupResponse> based on given parameters
+     * @param mode       PAGE with exact totals, SLICE without totals or APPROXIMATE with counter based totals.
+     * @return PageResponse<TaskGroupResponse> based on given parameters
      */
-    public Page<TaskGroupResponse> getAll(int pageNumber,
-                                          int size,
-                                          String sortBy,
-                                          String direction) {
+    @Transactional(readOnly = true)
+    public PageResponse<TaskGroupResponse> getAll(int pageNumber,
+                                                  int size,
+                                                  TaskGroupSortField sortBy,
+                                                  String direction,
+                                                  PageMode mode) {
 
-        Sort sort = direction.equalsIgnoreCase("desc")
-                ? Sort.by(sortBy).descending()
-                : Sort.by(sortBy).ascending();
+        PageRequest pageable = PageRequest.of(pageNumber, size, sortBy.toSort(direction));
 
-        PageRequest pageable = PageRequest.of(pageNumber, size, sort);
-
-        Page<TaskGroupEntity> page = this.taskGroupRepository.findAll(pageable);
-        List<TaskGroupResponse> groupResponses = page.getContent()
-                .stream()
-                .map(this::toTaskGroupResponse)
-                .toList();
-
-        return new PageImpl<>(groupResponses, pageable, page.getTotalElements());
+        Timer timer = this.listTimers.get(sortBy).get(mode);
+        return timer.record(() -> findPage(pageable, mode));
     }
 
     /**
@@ -94,7 +134,108 @@ public class TaskGroupService {
                 .orElseThrow(() -> new NotFoundException(formatRow(TASK_GROUP_ID_NOT_FOUND, taskGroupId)));
     }
 
-    private TaskGroupEntity createNewGroup(TaskGroupRequest request) {
+    /**
+     * Package private as it could be reachable only from domain services.
+     *
+     * @param taskGroupId ID of TaskGroupEntity to be referenced.
+     * @return Uninitialized TaskGroupEntity proxy, existence is enforced by foreign key on flush.
+     */
+    TaskGroupEntity getTaskGroupReference(Long taskGroupId) {
+        return this.taskGroupRepository.getReferenceById(taskGroupId);
+    }
+
+    /**
+     * Package private as it could be reachable only from domain services.
+     *
+     * @param taskGroupIds IDs of TaskGroupEntity to be found with one query.
+     * @return Found groups by ID, missing IDs are not present.
+     */
+    Map<Long, TaskGroupEntity> getTaskGroupsByIds(Collection<Long> taskGroupIds) {
+        if (taskGroupIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.taskGroupRepository.findAllById(taskGroupIds)
+                .stream()
+                .collect(Collectors.toMap(TaskGroupEntity::getId, Function.identity()));
+    }
+
+    /**
+     * Package private as it could be reachable only from domain services.
+     *
+     * @param names Names of TaskGroupEntity to be found with one query.
+     * @return IDs of found groups by name, missing names are not present.
+     */
+    Map<String, Long> getTaskGroupIdsByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.taskGroupRepository.findAllByNameIn(names)
+                .stream()
+                .collect(Collectors.toMap(TaskGroupEntity::getName, TaskGroupEntity::getId));
+    }
+
+    /**
+     * Package private as it could be reachable only from domain services. Same rule as create,
+     * names which already exist or repeat in the list are reported as failed. Existing names are checked with one query.
+     *
+     * @param requests Validated TaskGroupRequest.
+     * @return Result per group in the order of the list.
+     */
+    List<TaskBatchItemResponse> createAll(List<TaskGroupRequest> requests) {
+        Set<String> existing = getTaskGroupIdsByNames(requests.stream()
+                .map(TaskGroupRequest::name)
+                .collect(Collectors.toSet()))
+                .keySet()
+                .stream()
+                .map(TaskGroupService::nameKey)
+                .collect(Collectors.toSet());
+
+        long changeSeq = this.changeLogRepository.next();
+        Set<String> seen = new HashSet<>();
+        List<TaskBatchItemResponse> items = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TaskGroupRequest request = requests.get(i);
+            String key = nameKey(request.name());
+            if (existing.contains(key) || !seen.add(key)) {
+                items.add(TaskBatchItemResponse.failed(i, formatRow(TASK_GROUP_ALREADY_EXISTS, request.name())));
+                continue;
+            }
+
+            TaskGroupEntity createdGroup = this.taskGroupRepository.save(createNewGroup(request, changeSeq));
+            this.eventPublisher.publishEvent(DomainChangeEvent.ofTaskGroup(ChangeType.CREATED, createdGroup));
+            items.add(TaskBatchItemResponse.created(i, createdGroup.getId()));
+        }
+
+        return items;
+    }
+
+    /**
+     * Unique index of names uses the case and accent insensitive default collation of MySQL,
+     * so names are compared in Java by this key as well.
+     */
+    static String nameKey(String name) {
+        return StringUtils.stripAccents(name).toLowerCase(Locale.ROOT);
+    }
+
+    private PageResponse<TaskGroupResponse> findPage(PageRequest pageable,
+                                                     PageMode mode) {
+        if (mode == PageMode.PAGE) {
+            Page<TaskGroupEntity> page = this.taskGroupRepository.findAll(pageable);
+            return new PageResponse<>(new PageImpl<>(toTaskGroupResponses(page.getContent()), pageable, page.getTotalElements()));
+        }
+
+        Slice<TaskGroupEntity> slice = this.taskGroupRepository.findAllBy(pageable);
+        Slice<TaskGroupResponse> responses = new SliceImpl<>(toTaskGroupResponses(slice.getContent()), pageable, slice.hasNext());
+
+        return mode == PageMode.APPROXIMATE
+                ? new PageResponse<>(responses, this.approximateCountService.count(TaskGroupEntity.class))
+                : new PageResponse<>(responses);
+    }
+
+    private TaskGroupEntity createNewGroup(TaskGroupRequest request,
+                                           long changeSeq) {
         TaskGroupStatus status = Optional.ofNullable(request.status())
                 .orElse(TaskGroupStatus.NOT_STARTED);
 
@@ -102,33 +243,64 @@ public class TaskGroupService {
                 .name(request.name())
                 .status(status)
                 .createdAt(Instant.now())
+                .changeSeq(changeSeq)
                 .tasks(new ArrayList<>())
                 .build();
     }
 
-    private TaskGroupResponse toTaskGroupResponse(TaskGroupEntity entity) {
-        return TaskGroupResponse.builder()
-                .name(entity.getName())
-                .createdAt(entity.getCreatedAt())
-                .tasks(mapToTasksResponse(entity.getTasks()))
-                .build();
+    private List<TaskGroupResponse> toTaskGroupResponses(List<TaskGroupEntity> groups) {
+        Map<Long, List<TaskResponse>> tasksByGroup = findTasksByGroup(groups);
+        return groups.stream()
+                .map(group -> toTaskGroupResponse(group, tasksByGroup.getOrDefault(group.getId(), List.of())))
+                .toList();
     }
 
-    private List<TaskResponse> mapToTasksResponse(List<TaskEntity> tasks) {
-        return tasks.stream()
-                .map(this::toTaskResponse)
+    /**
+     * Tasks of the whole page are loaded with one query instead of initializing
+     * lazy tasks, createdBy and assignedTo of every group.
+     */
+    private Map<Long, List<TaskResponse>> findTasksByGroup(List<TaskGroupEntity> groups) {
+        if (groups.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> groupIds = groups.stream()
+                .map(TaskGroupEntity::getId)
                 .toList();
+
+        return this.taskRepository.findAllByTaskGroupIds(groupIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        TaskProjection::taskGroupId,
+                        Collectors.mapping(TaskMapper::toTaskResponse, Collectors.toList())));
     }
 
-    private TaskResponse toTaskResponse(TaskEntity entity) {
-        return TaskResponse.builder()
-                .title(entity.getTitle())
-                .description(entity.getDescription())
-                .status(entity.getStatus())
+    private TaskGroupResponse toTaskGroupResponse(TaskGroupEntity entity,
+                                                  List<TaskResponse> tasks) {
+        return TaskGroupResponse.builder()
+                .name(entity.getName())
                 .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .createdById(entity.getCreatedBy() != null ? entity.getCreatedBy().getId() : null)
-                .assignedToId(entity.getAssignedTo() != null ? entity.getAssignedTo().getId() : null)
+                .tasks(tasks)
                 .build();
     }
+
+    /**
+     * One timer per sort field and page mode, registered once instead of on every listing.
+     */
+    private static Map<TaskGroupSortField, Map<PageMode, Timer>> listTimers(MeterRegistry meterRegistry) {
+        Map<TaskGroupSortField, Map<PageMode, Timer>> timers = new EnumMap<>(TaskGroupSortField.class);
+        for (TaskGroupSortField sortBy : TaskGroupSortField.values()) {
+            Map<PageMode, Timer> byMode = new EnumMap<>(PageMode.class);
+            for (PageMode mode : PageMode.values()) {
+                byMode.put(mode, Timer.builder(LIST_TIMER)
+                        .description("Task groups listing latency per sort field and page mode")
+                        .tag("sort", sortBy.name())
+                        .tag("mode", mode.name())
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry));
+            }
+            timers.put(sortBy, byMode);
+        }
+        return timers;
+    }
 }
@@ -1,53 +1,97 @@
 package http.tasktracksystem.domain.services;
 
+import http.tasktracksystem.domain.audit.TaskSnapshot;
+import http.tasktracksystem.domain.dtos.projections.TaskProjection;
+import http.tasktracksystem.domain.dtos.requests.TaskBatchCreateRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskBulkAssignRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskBulkMoveRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskBulkSelection;
+import http.tasktracksystem.domain.dtos.requests.TaskBulkStatusRequest;
 import http.tasktracksystem.domain.dtos.requests.TaskCreateRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskSearchCriteria;
 import http.tasktracksystem.domain.dtos.requests.TaskUpdateRequest;
 import http.tasktracksystem.domain.dtos.responses.ApiResponse;
+import http.tasktracksystem.domain.dtos.responses.CursorPageResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskBatchItemResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskBatchResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskResponse;
 import http.tasktracksystem.domain.entities.TaskEntity;
 import http.tasktracksystem.domain.entities.TaskGroupEntity;
 import http.tasktracksystem.domain.entities.UserEntity;
+import http.tasktracksystem.domain.enums.ChangeType;
 import http.tasktracksystem.domain.enums.TaskStatus;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import http.tasktracksystem.domain.events.TaskFieldsChangedEvent;
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
 import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.exceptions.custom.PreconditionFailedException;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository;
 import http.tasktracksystem.domain.repositories.TaskRepository;
+import http.tasktracksystem.domain.security.user.AppUserDetails;
+import http.tasktracksystem.domain.utils.mappers.TaskMapper;
+import http.tasktracksystem.domain.utils.pagination.KeysetCursor;
+import http.tasktracksystem.domain.utils.persistence.ConstraintViolations;
 import http.tasktracksystem.domain.utils.responses.GeneralUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
 import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
 
 @RequiredArgsConstructor
+@Timed(value = "service.tasks", percentiles = {0.5, 0.95, 0.99})
 @Service
 public class TaskService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // same as the max count of IDs in bulk selection
+    private static final int MAX_BULK_AFFECTED = 5000;
+
     private final TaskRepository taskRepository;
     private final UserService userService;
     private final TaskGroupService taskGroupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLogRepository changeLogRepository;
 
     /**
-     * @param request  TaskCreateRequest - Title, Description, Status, AssignedTo and GroupId.
-     * @param username Authenticated user.
+     * Creator and group are linked by ID reference without loading them, missing ones are reported
+     * from foreign key violation on flush.
+     *
+     * @param request TaskCreateRequest - Title, Description, Status, AssignedTo and GroupId.
+     * @param creator Authenticated user.
      * @return ApiResponse based on given parameters.
      */
+    @Transactional
     public ApiResponse<Map<String, Object>> create(TaskCreateRequest request,
-                                                   String username) {
-
-        UserEntity creator = this.userService.getUserByUsername(username);
+                                                   AppUserDetails creator) {
 
         TaskEntity newTask = createNewTask(request);
-        newTask.setCreatedBy(creator);
+        newTask.setCreatedBy(this.userService.getUserReference(creator.getId()));
 
         linkTaskToUser(request.assignedToUsername(), newTask);
         linkTaskToGroup(request.taskGroupId(), newTask);
 
-        newTask = this.taskRepository.saveAndFlush(newTask);
+        newTask.setChangeSeq(this.changeLogRepository.next());
+        newTask = this.taskRepository.save(newTask);
+        flushLinkedTask(creator.getId(), null, request.taskGroupId());
+        this.eventPublisher.publishEvent(DomainChangeEvent.ofTask(ChangeType.CREATED, newTask, null, null));
         return GeneralUtils.buildApiResponse(
                 CREATE_TASK,
                 Map.of(ID, newTask.getId(),
@@ -55,28 +99,103 @@ public class TaskService {
                         STATUS, newTask.getStatus(),
                         CREATED_AT, newTask.getCreatedAt(),
                         UPDATED_AT, newTask.getUpdatedAt(),
-                        CREATED_BY, newTask.getCreatedBy().getUsername()));
+                        CREATED_BY, creator.getUsername(),
+                        VERSION, newTask.getVersion()));
+    }
+
+    /**
+     * Referenced users and groups are loaded once for the whole batch. Tasks with unknown
+     * assignee or group are reported as failed, the rest are inserted in one transaction
+     * as JDBC batches of hibernate.jdbc.batch_size.
+     *
+     * @param request TaskBatchCreateRequest - List of TaskCreateRequest.
+     * @param creator Authenticated user.
+     * @return TaskBatchResponse with result per task in the order of the request.
+     */
+    @Transactional
+    public TaskBatchResponse createBatch(TaskBatchCreateRequest request,
+                                         AppUserDetails creator) {
+        List<TaskCreateRequest> requests = request.tasks();
+        UserEntity createdBy = this.userService.getUserReference(creator.getId());
+
+        Map<String, UserEntity> assignees = this.userService.getUsersByUsernames(requests.stream()
+                .map(TaskCreateRequest::assignedToUsername)
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toSet()));
+        Map<Long, TaskGroupEntity> groups = this.taskGroupService.getTaskGroupsByIds(requests.stream()
+                .map(TaskCreateRequest::taskGroupId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        TaskBatchItemResponse[] items = new TaskBatchItemResponse[requests.size()];
+        List<Integer> indexes = new ArrayList<>(requests.size());
+        List<TaskEntity> tasks = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskCreateRequest taskRequest = requests.get(i);
+            String assignee = taskRequest.assignedToUsername();
+            Long taskGroupId = taskRequest.taskGroupId();
+
+            if (StringUtils.isNotBlank(assignee) && !assignees.containsKey(assignee)) {
+                items[i] = TaskBatchItemResponse.failed(i, formatRow(USER_USERNAME_NOT_FOUND, assignee));
+                continue;
+            }
+            if (taskGroupId != null && !groups.containsKey(taskGroupId)) {
+                items[i] = TaskBatchItemResponse.failed(i, formatRow(TASK_GROUP_ID_NOT_FOUND, taskGroupId));
+                continue;
+            }
+
+            TaskEntity task = createNewTask(taskRequest);
+            task.setCreatedBy(createdBy);
+            task.setAssignedTo(StringUtils.isNotBlank(assignee) ? assignees.get(assignee) : null);
+            task.setTaskGroup(taskGroupId != null ? groups.get(taskGroupId) : null);
+
+            indexes.add(i);
+            tasks.add(task);
+        }
+
+        if (!tasks.isEmpty()) {
+            long changeSeq = this.changeLogRepository.next();
+            tasks.forEach(task -> task.setChangeSeq(changeSeq));
+        }
+
+        // IDs are assigned from pooled generator on persist, inserts are sent as batches on flush
+        List<TaskEntity> saved = this.taskRepository.saveAll(tasks);
+        flushLinkedTask(creator.getId(), null, null);
+        this.eventPublisher.publishEvent(DomainChangeEvent.ofTasks(ChangeType.BULK_CREATED, saved.size()));
+        for (int i = 0; i < saved.size(); i++) {
+            int index = indexes.get(i);
+            items[index] = TaskBatchItemResponse.created(index, saved.get(i).getId());
+        }
+
+        return new TaskBatchResponse(saved.size(), requests.size() - saved.size(), Arrays.asList(items));
     }
 
     /**
      * @param taskId           Used id of task.
      * @param assigneeUsername Assign to username if present (Optional).
      * @param loggedInUsername Assign to loggedIn user if assigneeUsername not present.
+     * @param expectedVersion  Version from If-Match, not checked when null.
      * @return ApiResponse based on given parameters.
      */
+    @Transactional
     public ApiResponse<Map<String, Object>> assignTo(Long taskId,
                                                      String assigneeUsername,
-                                                     String loggedInUsername) {
+                                                     String loggedInUsername,
+                                                     Long expectedVersion) {
         String assignTo = Optional.ofNullable(assigneeUsername)
                 .orElse(loggedInUsername);
         UserEntity assignee = this.userService.getUserByUsername(assignTo);
 
-        TaskEntity task = this.taskRepository.findById(taskId)
-                .orElseThrow(() -> new NotFoundException(formatRow(TASK_ID_NOT_FOUND, taskId)));
+        TaskEntity task = getTaskForUpdate(taskId, expectedVersion);
+        TaskSnapshot before = TaskSnapshot.of(task);
 
         task.setAssignedTo(assignee);
         task.setUpdatedAt(Instant.now());
-        task = this.taskRepository.saveAndFlush(task);
+        task.setChangeSeq(this.changeLogRepository.next());
+        task = this.taskRepository.save(task);
+        this.taskRepository.flush();
+        publishUpdated(task, before);
 
         return GeneralUtils.buildApiResponse(
                 ASSIGN_TASK,
@@ -86,19 +205,29 @@ public class TaskService {
                         CREATED_AT, task.getCreatedAt(),
                         UPDATED_AT, task.getUpdatedAt(),
                         ASSIGNED_TO, task.getAssignedTo().getUsername(),
-                        CREATED_BY, task.getCreatedBy().getUsername()));
+                        CREATED_BY, task.getCreatedBy().getUsername(),
+                        VERSION, task.getVersion()));
     }
 
     /**
      * @param taskId  Task by given id to be updated.
-     * @param request TaskUpdateRequest - Title, Description, Status, CreatedBy and AssignedTo.
+     * @param request         TaskUpdateRequest - Title, Description, Status, CreatedBy and AssignedTo.
+     * @param expectedVersion Version from If-Match, not checked when null.
      * @return ApiResponse based on given parameters.
      */
+    @Transactional
     public ApiResponse<Map<String, Object>> update(Long taskId,
-                                                   TaskUpdateRequest request) {
+                                                   TaskUpdateRequest request,
+                                                   Long expectedVersion) {
 
-        TaskEntity task = updateById(taskId, request);
-        this.taskRepository.saveAndFlush(task);
+        TaskEntity task = getTaskForUpdate(taskId, expectedVersion);
+        TaskSnapshot before = TaskSnapshot.of(task);
+
+        updateTask(task, request);
+        task.setChangeSeq(this.changeLogRepository.next());
+        this.taskRepository.save(task);
+        flushLinkedTask(request.createdById(), request.assignedToId(), null);
+        publishUpdated(task, before);
 
         return GeneralUtils.buildApiResponse(
                 UPDATE_TASK,
@@ -108,25 +237,32 @@ public class TaskService {
                         CREATED_AT, task.getCreatedAt(),
                         UPDATED_AT, task.getUpdatedAt(),
                         ASSIGNED_TO, task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : NOT_PRESENT_VALUE,
-                        CREATED_BY, task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : NOT_PRESENT_VALUE));
+                        CREATED_BY, task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : NOT_PRESENT_VALUE,
+                        VERSION, task.getVersion()));
     }
 
     /**
      * @param taskId      Task wit id to be added.
      * @param taskGroupId Task to be added to grop task id.
-     * @param addedBy     LoggedIn user.
+     * @param addedBy         LoggedIn user.
+     * @param expectedVersion Version from If-Match, not checked when null.
      * @return ApiResponse based on given parameters.
      */
+    @Transactional
     public ApiResponse<Map<String, Object>> addToGroup(Long taskId,
                                                        Long taskGroupId,
-                                                       String addedBy) {
+                                                       String addedBy,
+                                                       Long expectedVersion) {
         TaskGroupEntity taskGroup = this.taskGroupService.getTaskGroupById(taskGroupId);
 
-        TaskEntity task = this.taskRepository.findById(taskId)
-                .orElseThrow(() -> new NotFoundException(formatRow(TASK_ID_NOT_FOUND, taskId)));
+        TaskEntity task = getTaskForUpdate(taskId, expectedVersion);
+        TaskSnapshot before = TaskSnapshot.of(task);
         task.setTaskGroup(taskGroup);
+        task.setChangeSeq(this.changeLogRepository.next());
 
-        this.taskRepository.saveAndFlush(task);
+        this.taskRepository.save(task);
+        this.taskRepository.flush();
+        publishUpdated(task, before);
         return GeneralUtils.buildApiResponse(
                 ADD_TASK_TO_GROUP,
                 Map.of(ADDED_TASK_TO_GROUP_BY, addedBy,
@@ -134,7 +270,144 @@ public class TaskService {
                         TASK_TITLE, task.getTitle(),
                         TASK_GROUP_ID, taskGroup.getId(),
                         TASK_NAME, taskGroup.getName(),
-                        TASK_CREATED_BY, task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : NOT_PRESENT_VALUE));
+                        TASK_CREATED_BY, task.getCreatedBy() != null ? task.getCreatedBy().getUsername() : NOT_PRESENT_VALUE,
+                        VERSION, task.getVersion()));
+    }
+
+    /**
+     * Status of all selected tasks is changed with one UPDATE statement.
+     *
+     * @param request TaskBulkStatusRequest - Selection by IDs or filter and new Status.
+     * @return ApiResponse with count of affected tasks.
+     */
+    @Transactional
+    public ApiResponse<Map<String, Object>> updateStatus(TaskBulkStatusRequest request) {
+        Instant now = Instant.now();
+        int affected = bulkUpdate(request.selection(), "status", request.status(),
+                (ids, changeSeq) -> this.taskRepository.updateStatusByIds(ids, request.status(), now, changeSeq), now);
+
+        return GeneralUtils.buildApiResponse(
+                BULK_UPDATE_TASKS_STATUS,
+                Map.of(AFFECTED_TASKS, affected,
+                        STATUS, request.status(),
+                        UPDATED_AT, now));
+    }
+
+    /**
+     * All selected tasks are assigned with one UPDATE statement.
+     *
+     * @param request          TaskBulkAssignRequest - Selection by IDs or filter and assignee username (Optional).
+     * @param loggedInUsername Assign to loggedIn user if assignee username not present.
+     * @return ApiResponse with count of affected tasks.
+     */
+    @Transactional
+    public ApiResponse<Map<String, Object>> assignTo(TaskBulkAssignRequest request,
+                                                     String loggedInUsername) {
+        String assignTo = Optional.ofNullable(request.assignedToUsername())
+                .orElse(loggedInUsername);
+        UserEntity assignee = this.userService.getUserByUsername(assignTo);
+
+        Instant now = Instant.now();
+        int affected = bulkUpdate(request.selection(), "assignedTo", assignee,
+                (ids, changeSeq) -> this.taskRepository.updateAssigneeByIds(ids, assignee, now, changeSeq), now);
+
+        return GeneralUtils.buildApiResponse(
+                BULK_ASSIGN_TASKS,
+                Map.of(AFFECTED_TASKS, affected,
+                        ASSIGNED_TO, assignee.getUsername(),
+                        UPDATED_AT, now));
+    }
+
+    /**
+     * All selected tasks are moved to the group with one UPDATE statement.
+     *
+     * @param request TaskBulkMoveRequest - Selection by IDs or filter and Task Group ID.
+     * @param addedBy Authenticated user.
+     * @return ApiResponse with count of affected tasks.
+     */
+    @Transactional
+    public ApiResponse<Map<String, Object>> addToGroup(TaskBulkMoveRequest request,
+                                                       String addedBy) {
+        TaskGroupEntity taskGroup = this.taskGroupService.getTaskGroupById(request.taskGroupId());
+
+        Instant now = Instant.now();
+        int affected = bulkUpdate(request.selection(), "taskGroup", taskGroup,
+                (ids, changeSeq) -> this.taskRepository.updateTaskGroupByIds(ids, taskGroup, now, changeSeq), now);
+
+        return GeneralUtils.buildApiResponse(
+                BULK_ADD_TASKS_TO_GROUP,
+                Map.of(AFFECTED_TASKS, affected,
+                        ADDED_TASK_TO_GROUP_BY, addedBy,
+                        TASK_GROUP_ID, taskGroup.getId(),
+                        TASK_NAME, taskGroup.getName()));
+    }
+
+    /**
+     * @param criteria Optional filters - Status, AssignedTo, CreatedBy, TaskGroup and UpdatedSince.
+     * @param cursor   Opaque cursor from previous page, null for first page.
+     * @param size     Count of tasks in page, between 1 and MAX_PAGE_SIZE.
+     * @return CursorPageResponse ordered by last update, newest first.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> search(TaskSearchCriteria criteria,
+                                                   String cursor,
+                                                   int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // one extra row tells if there is a next page without counting
+        List<TaskProjection> rows = this.taskRepository.search(criteria, KeysetCursor.decode(cursor), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<TaskProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskProjection last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.updatedAt(), last.id()).encode();
+        }
+
+        return new CursorPageResponse<>(
+                page.stream().map(TaskMapper::toTaskResponse).toList(),
+                pageSize,
+                hasNext,
+                nextCursor);
+    }
+
+    /**
+     * IDs are updated by repository query. Filter is resolved to at most MAX_BULK_AFFECTED IDs first,
+     * broader filter is rejected, so one request could not rewrite the whole table in one transaction.
+     * Previous values of the tasks are not loaded, so one bulk change is published instead of change per task
+     * and bulk updates are not present in task history (audit log).
+     */
+    private int bulkUpdate(TaskBulkSelection selection,
+                           String attribute,
+                           Object value,
+                           BiFunction<List<Long>, Long, Integer> updateByIds,
+                           Instant updatedAt) {
+        boolean hasIds = selection.ids() != null && !selection.ids().isEmpty();
+        boolean hasFilter = selection.filter() != null && !selection.filter().isEmpty();
+        if (hasIds == hasFilter) {
+            throw new InvalidRequestException(INVALID_BULK_SELECTION);
+        }
+
+        List<Long> filteredIds = null;
+        if (hasFilter) {
+            filteredIds = this.taskRepository.findIdsByFilter(selection.filter(), MAX_BULK_AFFECTED + 1);
+            if (filteredIds.size() > MAX_BULK_AFFECTED) {
+                throw new InvalidRequestException(formatRow(BULK_FILTER_TOO_BROAD, MAX_BULK_AFFECTED));
+            }
+            if (filteredIds.isEmpty()) {
+                return 0;
+            }
+        }
+
+        long changeSeq = this.changeLogRepository.next();
+        int affected = hasIds
+                ? updateByIds.apply(selection.ids(), changeSeq)
+                : this.taskRepository.updateByFilter(selection.filter(), filteredIds, attribute, value, updatedAt, changeSeq);
+        if (affected > 0) {
+            this.eventPublisher.publishEvent(DomainChangeEvent.ofTasks(ChangeType.BULK_UPDATED, affected));
+        }
+        return affected;
     }
 
     private TaskEntity createNewTask(TaskCreateRequest request) {
@@ -161,16 +434,52 @@ public class TaskService {
     private void linkTaskToGroup(Long taskGroupId,
                                  TaskEntity newTask) {
         if (taskGroupId != null) {
-            TaskGroupEntity taskGroupById = this.taskGroupService.getTaskGroupById(taskGroupId);
-            newTask.setTaskGroup(taskGroupById);
+            newTask.setTaskGroup(this.taskGroupService.getTaskGroupReference(taskGroupId));
         }
     }
 
-    private TaskEntity updateById(Long taskId,
-                                  TaskUpdateRequest request) {
+    /**
+     * Loaded version is compared with If-Match, Hibernate checks it once more in UPDATE ... WHERE ID = ? AND VERSION = ?,
+     * so concurrent change between read and write fails with ObjectOptimisticLockingFailureException.
+     * The read is not replaced by a bare conditional UPDATE, as previous values are needed by the task history
+     * (TaskFieldsChangedEvent) and by change events (previous group and assignee); it is a primary key lookup.
+     * Callers flush before building the response, as new version (returned as ETag) is set on flush.
+     */
+    private TaskEntity getTaskForUpdate(Long taskId,
+                                        Long expectedVersion) {
         TaskEntity task = this.taskRepository.findById(taskId)
                 .orElseThrow(() -> new NotFoundException(formatRow(TASK_ID_NOT_FOUND, taskId)));
 
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException(formatRow(TASK_VERSION_MISMATCH, taskId, task.getVersion(), expectedVersion));
+        }
+        return task;
+    }
+
+    /**
+     * Associations linked by reference are checked by DB foreign keys, violations are reported as not found.
+     */
+    private void flushLinkedTask(Long createdById,
+                                 Long assignedToId,
+                                 Long taskGroupId) {
+        try {
+            this.taskRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolated(e, TaskEntity.FK_CREATED_BY)) {
+                throw new NotFoundException(formatRow(USER_ID_NOT_FOUND, createdById));
+            }
+            if (ConstraintViolations.isViolated(e, TaskEntity.FK_ASSIGNED_TO)) {
+                throw new NotFoundException(formatRow(USER_ID_NOT_FOUND, assignedToId));
+            }
+            if (ConstraintViolations.isViolated(e, TaskEntity.FK_TASK_GROUP)) {
+                throw new NotFoundException(formatRow(TASK_GROUP_ID_NOT_FOUND, taskGroupId));
+            }
+            throw e;
+        }
+    }
+
+    private void updateTask(TaskEntity task,
+                            TaskUpdateRequest request) {
         task.setTitle(request.title());
         task.setStatus(request.status());
         task.setUpdatedAt(Instant.now());
@@ -183,17 +492,25 @@ public class TaskService {
         );
 
         applyOrNull(request.createdById(),
-                userService::getUserById,
+                userService::getUserReference,
                 task::setCreatedBy,
                 () -> task.setCreatedBy(null)
         );
 
         applyOrNull(request.assignedToId(),
-                userService::getUserById,
+                userService::getUserReference,
                 task::setAssignedTo,
                 () -> task.setAssignedTo(null)
         );
-        return task;
+    }
+
+    /**
+     * Change feed gets previous group and assignee, audit log gets the diff of all fields.
+     */
+    private void publishUpdated(TaskEntity task,
+                                TaskSnapshot before) {
+        this.eventPublisher.publishEvent(DomainChangeEvent.ofTask(ChangeType.UPDATED, task, before.taskGroupId(), before.assignedToId()));
+        this.eventPublisher.publishEvent(new TaskFieldsChangedEvent(task.getId(), task.getVersion(), before, TaskSnapshot.of(task), Instant.now()));
     }
 
 
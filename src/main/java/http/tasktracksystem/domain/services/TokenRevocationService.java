@@ -0,0 +1,73 @@
+package http.tasktracksystem.domain.services;
+
+import http.tasktracksystem.domain.entities.RevokedTokenEntity;
+import http.tasktracksystem.domain.repositories.RevokedTokenRepository;
+import http.tasktracksystem.domain.security.jwt.RevokedTokenIndex;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@AllArgsConstructor
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenIndex revokedTokenIndex;
+
+    /**
+     * Checked on every request, served only from memory.
+     *
+     * @param jti Token ID.
+     * @return true if token was revoked.
+     */
+    public boolean isRevoked(String jti) {
+        return this.revokedTokenIndex.isRevoked(jti);
+    }
+
+    /**
+     * Insert-if-absent on the primary key of REVOKED_TOKENS, so only one of concurrent calls
+     * with the same token ID revokes it.
+     *
+     * @param jti       Token ID to be revoked.
+     * @param expiresAt Expiration of the token, after it the record is not needed anymore.
+     * @return true if the token was revoked by this call, false if it was already revoked.
+     */
+    public boolean revoke(String jti,
+                          Instant expiresAt) {
+        if (jti == null || this.revokedTokenIndex.isRevoked(jti)) {
+            return false;
+        }
+
+        boolean inserted;
+        try {
+            inserted = this.revokedTokenRepository.insert(jti, expiresAt, Instant.now()) > 0;
+        } catch (DataIntegrityViolationException e) {
+            inserted = false;
+        }
+        this.revokedTokenIndex.add(jti, expiresAt);
+        return inserted;
+    }
+
+    /**
+     * Removes expired records and loads the rest into the in-memory index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        Instant now = Instant.now();
+        int removed = this.revokedTokenRepository.deleteExpired(now);
+        Map<String, Instant> active = this.revokedTokenRepository.findAllByExpiresAtAfter(now)
+                .stream()
+                .collect(Collectors.toMap(RevokedTokenEntity::getJti, RevokedTokenEntity::getExpiresAt));
+
+        this.revokedTokenIndex.rebuild(active);
+        log.info("Revoked tokens index rebuilt with {} tokens, {} expired removed.", active.size(), removed);
+    }
+}
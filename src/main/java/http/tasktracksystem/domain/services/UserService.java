@@ -7,30 +7,46 @@ import http.tasktracksystem.domain.dtos.responses.UserSecurityDto;
 import http.tasktracksystem.domain.entities.RoleEntity;
 import http.tasktracksystem.domain.entities.UserEntity;
 import http.tasktracksystem.domain.exceptions.custom.AlreadyExistsException;
+import http.tasktracksystem.domain.enums.ChangeType;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import http.tasktracksystem.domain.events.UserSecurityChangedEvent;
 import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository;
 import http.tasktracksystem.domain.repositories.UserRepository;
+import http.tasktracksystem.domain.utils.persistence.ConstraintViolations;
 import http.tasktracksystem.domain.utils.responses.GeneralUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
 import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
 
 @AllArgsConstructor
+@Timed(value = "service.users", percentiles = {0.5, 0.95, 0.99})
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
     private final RoleService roleService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLogRepository changeLogRepository;
 
     /**
      * Package private as it could be reachable only from domain
@@ -43,6 +59,32 @@ public class UserService {
                 .orElseThrow(() -> new NotFoundException(formatRow(USER_USERNAME_NOT_FOUND, username)));
     }
 
+    /**
+     * Package private as it could be reachable only from domain
+     *
+     * @param userId User ID to be referenced.
+     * @return Uninitialized UserEntity proxy, existence is enforced by foreign key on flush.
+     */
+    UserEntity getUserReference(Long userId) {
+        return this.userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * Package private as it could be reachable only from domain
+     *
+     * @param usernames Usernames to be found with one query.
+     * @return Found users by username, missing usernames are not present.
+     */
+    Map<String, UserEntity> getUsersByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Map.of();
+        }
+
+        return this.userRepository.findAllByUsernameIn(usernames)
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getUsername, Function.identity()));
+    }
+
     /**
      * Package private as it could be reachable only from domain
      *
@@ -55,11 +97,14 @@ public class UserService {
     }
 
     /**
-     * Used to build UserDetails.
+     * Used to build UserDetails. Not read-only, so it is always routed to primary: principals are loaded
+     * before SecurityContext exists (read-your-writes stickiness could not apply) and are cached afterwards,
+     * a lagging replica would bring back roles of the user from before the change.
      *
      * @param username Username to be found
      * @return UserSecurityResponse Id, Username, Email, Password and Roles
      */
+    @Transactional
     public UserSecurityDto getUserForSecurity(String username) {
         return this.userRepository.findByUsername(username)
                 .map(this::mapToSecurityResponse)
@@ -67,19 +112,47 @@ public class UserService {
     }
 
     /**
+     * Not read-only, so the version is read from primary and a role change is never missed because of replica lag.
+     *
+     * @param userId ID of the token subject.
+     * @return Current token version of the user, empty if the user was deleted.
+     */
+    @Transactional
+    public Optional<Long> getTokenVersion(Long userId) {
+        return this.userRepository.findTokenVersionById(userId);
+    }
+
+    /**
+     * Stores the same password hashed with current encoder strength.
+     * It is not a password change, so tokens and cached principals stay valid.
+     *
+     * @param username        Username of already authenticated user.
+     * @param encodedPassword Password encoded with current PasswordEncoder.
+     */
+    @Transactional
+    public void rehashPassword(String username,
+                               String encodedPassword) {
+        UserEntity user = getUserByUsername(username);
+        user.setPassword(encodedPassword);
+        user.setUpdatedAt(Instant.now());
+        this.userRepository.save(user);
+    }
+
+    /**
+     * Insert is attempted directly, uniqueness of USERNAME and EMAIL is enforced by the DB constraints,
+     * so concurrent registrations with the same username or email could not both succeed.
+     *
      * @param request UserRegisterRequest - Username, Email and Password.
      * @return ApiResponse based on given parameters.
      */
+    @Transactional
     public ApiResponse<Map<String, Object>> registerUser(UserRegisterRequest request) {
-        if (userRepository.existsByUsername(request.username()) || userRepository.existsByEmail(request.email())) {
-            throw new AlreadyExistsException(formatRow(USER_USERNAME_EMAIL_EXISTS, request.username(), request.email()));
-        }
-
         UserEntity newUser = createNewUser(request);
         RoleEntity roleUser = this.roleService.findUserRole();
         newUser.addRole(roleUser);
 
-        UserEntity createdUser = userRepository.saveAndFlush(newUser);
+        UserEntity createdUser = insertUser(newUser);
+        this.eventPublisher.publishEvent(DomainChangeEvent.ofUser(ChangeType.CREATED, createdUser.getId()));
         return GeneralUtils.buildApiResponse(
                 REGISTER_USER,
                 Map.of(ID, createdUser.getId(),
@@ -95,14 +168,15 @@ public class UserService {
      * @param deletedBy Username of authenticated user.
      * @return ApiResponse based on given parameters.
      */
+    @Transactional
     public ApiResponse<Map<String, Object>> delete(Long userId,
                                                    String deletedBy) {
-        this.userRepository.findById(userId)
-                .ifPresentOrElse(this.userRepository::delete,
-                        () -> {
-                            throw new NotFoundException(formatRow(USER_ID_NOT_FOUND, userId));
-                        }
-                );
+        UserEntity user = getUserById(userId);
+        // foreign keys of user tasks are set to null by DB, tasks are stamped so delta sync returns them
+        this.changeLogRepository.stampTasksOfUser(userId, this.changeLogRepository.next());
+        this.userRepository.delete(user);
+        this.eventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getUsername()));
+        this.eventPublisher.publishEvent(DomainChangeEvent.ofUser(ChangeType.DELETED, user.getId()));
 
         return GeneralUtils.buildApiResponse(
                 DELETE_USER,
@@ -110,14 +184,19 @@ public class UserService {
                         DELETED_BY, deletedBy));
     }
 
+    @Transactional
     public ApiResponse<Map<String, Object>> applyRoles(ChangeUserRolesRequest request,
                                                        String changedBy) {
         Set<RoleEntity> allByNames = this.roleService.findAllByNames(request.roles());
         UserEntity user = getUserByUsername(request.changeTo());
         user.setRoles(allByNames);
         user.setUpdatedAt(Instant.now());
+        // committed together with the roles, tokens with the previous version are rejected from then on
+        user.setTokenVersion(user.getTokenVersion() + 1);
 
-        user = this.userRepository.saveAndFlush(user);
+        user = this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getUsername()));
+        this.eventPublisher.publishEvent(DomainChangeEvent.ofUser(ChangeType.UPDATED, user.getId()));
         return GeneralUtils.buildApiResponse(
                 CHANGE_ROLE_TO_USER,
                 Map.of(CHANGED_BY, changedBy,
@@ -126,6 +205,23 @@ public class UserService {
         );
     }
 
+    private UserEntity insertUser(UserEntity newUser) {
+        try {
+            UserEntity createdUser = this.userRepository.save(newUser);
+            this.userRepository.flush();
+            return createdUser;
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolated(e, UserEntity.UK_USERNAME)) {
+                throw new AlreadyExistsException(formatRow(USER_USERNAME_EXISTS, newUser.getUsername()));
+            }
+            if (ConstraintViolations.isViolated(e, UserEntity.UK_EMAIL)) {
+                throw new AlreadyExistsException(formatRow(USER_EMAIL_EXISTS, newUser.getEmail()));
+            }
+            // constraint name could not be resolved, any unique violation on insert is a duplicate user
+            throw new AlreadyExistsException(formatRow(USER_USERNAME_EMAIL_EXISTS, newUser.getUsername(), newUser.getEmail()));
+        }
+    }
+
     private UserSecurityDto mapToSecurityResponse(UserEntity user) {
         return UserSecurityDto.builder()
                 .id(user.getId())
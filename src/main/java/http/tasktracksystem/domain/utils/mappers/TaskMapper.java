@@ -0,0 +1,22 @@
+package http.tasktracksystem.domain.utils.mappers;
+
+import http.tasktracksystem.domain.dtos.projections.TaskProjection;
+import http.tasktracksystem.domain.dtos.responses.TaskResponse;
+
+public final class TaskMapper {
+
+    public static TaskResponse toTaskResponse(TaskProjection task) {
+        return TaskResponse.builder()
+                .id(task.id())
+                .title(task.title())
+                .description(task.description())
+                .status(task.status())
+                .createdAt(task.createdAt())
+                .updatedAt(task.updatedAt())
+                .createdById(task.createdById())
+                .assignedToId(task.assignedToId())
+                .taskGroupId(task.taskGroupId())
+                .version(task.version())
+                .build();
+    }
+}
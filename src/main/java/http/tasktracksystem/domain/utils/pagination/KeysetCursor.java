@@ -0,0 +1,48 @@
+package http.tasktracksystem.domain.utils.pagination;
+
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_CURSOR;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * Position after the last returned row of (updated_at, id) ordered listing.
+ * Clients get it only as opaque URL-safe string.
+ */
+public record KeysetCursor(Instant updatedAt, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = updatedAt.getEpochSecond() + SEPARATOR + updatedAt.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor Value previously returned by encode.
+     * @return KeysetCursor or null for blank cursor, throws InvalidRequestException for invalid one.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            Instant updatedAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new KeysetCursor(updatedAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(formatRow(INVALID_CURSOR, cursor));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package http.tasktracksystem.domain.utils.pagination;
+
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_SYNC_TOKEN;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * Position of the client of delta sync. All rows up to changeSeq were seen, of the rows with the next CHANGE_SEQ
+ * the ones with ID up to taskId, taskGroupId and tombstoneId as well. The IDs are 0 unless one change sequence
+ * did not fit in one response.
+ * Clients get it only as opaque URL-safe string.
+ */
+public record SyncToken(long changeSeq,
+                        long taskId,
+                        long taskGroupId,
+                        long tombstoneId) {
+
+    private static final String SEPARATOR = ":";
+
+    public SyncToken(long changeSeq) {
+        this(changeSeq, 0L, 0L, 0L);
+    }
+
+    public String encode() {
+        String value = taskId == 0L && taskGroupId == 0L && tombstoneId == 0L
+                ? Long.toString(changeSeq)
+                : String.join(SEPARATOR, Long.toString(changeSeq), Long.toString(taskId),
+                Long.toString(taskGroupId), Long.toString(tombstoneId));
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param token Value previously returned by encode.
+     * @return SyncToken or null for blank token, throws InvalidRequestException for invalid one.
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split(SEPARATOR, -1);
+            long[] values = new long[4];
+            if (parts.length != 1 && parts.length != values.length) {
+                throw new IllegalArgumentException(token);
+            }
+            for (int i = 0; i < parts.length; i++) {
+                values[i] = Long.parseLong(parts[i]);
+                if (values[i] < 0) {
+                    throw new IllegalArgumentException(token);
+                }
+            }
+            return new SyncToken(values[0], values[1], values[2], values[3]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(formatRow(INVALID_SYNC_TOKEN, token));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package http.tasktracksystem.domain.utils.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Resolves which DB constraint caused DataIntegrityViolationException, so it could be mapped to domain exception.
+ */
+public final class ConstraintViolations {
+
+    /**
+     * @param ex             Exception thrown on flush.
+     * @param constraintName Name of the constraint as declared in Liquibase changeset.
+     * @return true if the given constraint was violated.
+     */
+    public static boolean isViolated(DataIntegrityViolationException ex,
+                                     String constraintName) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toUpperCase().contains(constraintName.toUpperCase());
+            }
+        }
+
+        // constraint name is not always extracted by the dialect, it is part of the driver message then
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toUpperCase().contains(constraintName.toUpperCase());
+    }
+}
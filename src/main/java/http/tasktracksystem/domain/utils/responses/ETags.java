@@ -0,0 +1,51 @@
+package http.tasktracksystem.domain.utils.responses;
+
+import http.tasktracksystem.domain.dtos.responses.ApiResponse;
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+
+import java.util.Map;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.INVALID_IF_MATCH;
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.VERSION;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+
+/**
+ * ETag of an entity is its version, e.g. "3".
+ */
+public final class ETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * @param response ApiResponse with VERSION field.
+     * @return ETag value of the response.
+     */
+    public static String of(ApiResponse<Map<String, Object>> response) {
+        return String.valueOf(response.data().get(VERSION));
+    }
+
+    /**
+     * @param ifMatch Value of If-Match header.
+     * @return Expected version, null when header is not present or matches any version.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (value.startsWith(WEAK_PREFIX)) {
+            value = value.substring(WEAK_PREFIX.length());
+        }
+        if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException(formatRow(INVALID_IF_MATCH, ifMatch));
+        }
+    }
+}
@@ -10,6 +10,9 @@ public final class GeneralTemplates {
     public static final String ASSIGN_TASK = "SUCCESSFULLY ASSIGNED TASK";
     public static final String UPDATE_TASK = "SUCCESSFULLY UPDATED TASK";
     public static final String ADD_TASK_TO_GROUP = "SUCCESSFULLY ADDED TASK TO GROUP";
+    public static final String BULK_UPDATE_TASKS_STATUS = "SUCCESSFULLY UPDATED STATUS OF TASKS";
+    public static final String BULK_ASSIGN_TASKS = "SUCCESSFULLY ASSIGNED TASKS";
+    public static final String BULK_ADD_TASKS_TO_GROUP = "SUCCESSFULLY ADDED TASKS TO GROUP";
     public static final String REGISTER_USER = "SUCCESSFULLY REGISTERED USER";
 
     // USERS
@@ -40,17 +43,48 @@ public final class GeneralTemplates {
     public static final String NOT_PRESENT_VALUE = "NOT_PRESENT_VALUE";
     public static final String CHANGED_BY = "CHANGED_BY";
     public static final String USER_ID = "USER_ID";
+    public static final String TOKEN_VERSION = "TOKEN_VERSION";
+    public static final String TOKEN_TYPE = "TOKEN_TYPE";
+    public static final String AFFECTED_TASKS = "AFFECTED_TASKS";
+    public static final String VERSION = "VERSION";
 
     //EXCEPTIONS
     public static final String USER_USERNAME_NOT_FOUND = "User with USERNAME: '%s' was not found.";
     public static final String USER_OR_PASSWORD_ARE_NOT_VALID = "Username or password is not valid!";
     public static final String USER_ID_NOT_FOUND = "User with ID: '%s' was not found.";
     public static final String USER_USERNAME_EMAIL_EXISTS = "USERNAME: '%s' or EMAIL: '%s' already exists.";
+    public static final String USER_USERNAME_EXISTS = "USERNAME: '%s' already exists.";
+    public static final String USER_EMAIL_EXISTS = "EMAIL: '%s' already exists.";
     public static final String TASK_ID_NOT_FOUND = "Task with ID: '%s' was not found.";
     public static final String ROLE_NOT_FOUND = "Role: '%s' was not found.";
     public static final String TASK_GROUP_ALREADY_EXISTS = "Task group: '%s' already exists.";
     public static final String TASK_GROUP_ID_NOT_FOUND = "Task group ID: '%s' was not found.";
     public static final String ROLES_NOT_FOUND = "Provided roles are not found.";
+    public static final String TOKEN_REVOKED = "Token was revoked";
+    public static final String INVALID_TOKEN_TYPE = "Invalid token type";
+    public static final String TOKEN_OF_OTHER_USER = "Token was issued to another user";
+    public static final String LOGOUT_USER = "SUCCESSFULLY LOGGED OUT";
+    public static final String INVALID_CURSOR = "Cursor: '%s' is not valid.";
+    public static final String INVALID_SYNC_TOKEN = "Sync token: '%s' is not valid.";
+    public static final String LOGIN_OVERLOADED = "Too many login attempts at the moment, please try again later.";
+    public static final String CHANGE_FEED_OVERLOADED = "Too many change feed subscribers at the moment, please try again later.";
+    public static final String TASK_VERSION_MISMATCH = "Task with ID: '%s' has version '%s', but '%s' was expected.";
+    public static final String VERSION_CONFLICT = "Resource was changed by another request, load it again and retry.";
+    public static final String INVALID_IF_MATCH = "If-Match: '%s' is not valid ETag.";
+    public static final String INVALID_BULK_SELECTION = "Selection should contain either IDs or filter with at least one field.";
+    public static final String BULK_FILTER_TOO_BROAD = "Filter matches more than %s tasks, narrow it or select tasks by IDs.";
+    public static final String INVALID_SORT_FIELD = "Sort by: '%s' is not supported, expected one of %s.";
+    public static final String INVALID_SORT_DIRECTION = "Sort direction: '%s' is not valid, expected ASC or DESC.";
+    public static final String INVALID_PAGE_MODE = "Page mode: '%s' is not valid, expected one of %s.";
+    public static final String INVALID_DATA_FORMAT = "Format: '%s' is not valid, expected one of %s.";
+    public static final String IMPORT_JOB_ID_NOT_FOUND = "Import job with ID: '%s' was not found.";
+    public static final String IMPORT_JOB_COMPLETED = "Import job with ID: '%s' is already completed.";
+    public static final String IMPORT_JOB_CONFLICT = "Import job with ID: '%s' is being uploaded by another request.";
+    public static final String IMPORT_ROW_UNREADABLE = "Row %s could not be read: %s";
+    public static final String INVALID_IMPORT_ROW_TYPE = "Row type: '%s' is not valid, expected one of %s.";
+    public static final String INVALID_IMPORT_STATUS = "Status: '%s' is not valid, expected one of %s.";
+    public static final String TASK_GROUP_NAME_NOT_FOUND = "Task group: '%s' was not found.";
+    public static final String INVALID_EXPORT_COLUMN = "Export column: '%s' is not supported, expected one of %s.";
 
     // LOGS
     public static final String UNEXPECTED_ERROR = "Opss.. Unexpected error occurred. Sorry for the inconvenience.";
@@ -0,0 +1,2 @@
+-- Tokens carry the version valid at issue time, role change increments it in the same transaction and delete removes the row
+ALTER TABLE USERS ADD COLUMN TOKEN_VERSION BIGINT NOT NULL DEFAULT 0;
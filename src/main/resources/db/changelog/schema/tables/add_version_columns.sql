@@ -0,0 +1,3 @@
+-- Optimistic locking, version is checked and incremented by every update (ETag / If-Match)
+ALTER TABLE TASKS ADD COLUMN VERSION BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE TASK_GROUPS ADD COLUMN VERSION BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- Change sequence values taken by writers which have not committed yet. Value is allocated and its lease inserted
+-- in a short transaction of its own, the writer deletes the lease in its transaction, so it is gone at its commit.
+-- Sync does not go past the lowest leased value, counter row is no longer locked for the whole write.
+CREATE TABLE IF NOT EXISTS CHANGE_LEASES
+(
+    SEQ        BIGINT    NOT NULL PRIMARY KEY,
+    CREATED_AT TIMESTAMP NOT NULL
+);
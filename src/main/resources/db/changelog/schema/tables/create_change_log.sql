@@ -0,0 +1,29 @@
+-- Delta sync, every write stamps changed rows with the next value of CHANGE_SEQUENCE.
+-- Values are allocated in short transactions of their own and leased in CHANGE_LEASES until the writer commits,
+-- so the safe sync token is the lowest leased value minus one, or the counter value when nothing is leased.
+CREATE TABLE IF NOT EXISTS CHANGE_SEQUENCE
+(
+    SEQ BIGINT NOT NULL
+);
+
+INSERT INTO CHANGE_SEQUENCE (SEQ)
+VALUES (0);
+
+-- existing rows keep 0 and are returned by the first sync without token
+ALTER TABLE TASKS ADD COLUMN CHANGE_SEQ BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE TASK_GROUPS ADD COLUMN CHANGE_SEQ BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IDX_TASKS_CHANGE_SEQ_ID ON TASKS (CHANGE_SEQ, ID);
+CREATE INDEX IDX_TASK_GROUPS_CHANGE_SEQ_ID ON TASK_GROUPS (CHANGE_SEQ, ID);
+
+-- deleted tasks and groups, ENTITY_ID is not a foreign key as the row is gone
+CREATE TABLE IF NOT EXISTS TOMBSTONES
+(
+    ID          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    ENTITY_TYPE VARCHAR(20) NOT NULL,
+    ENTITY_ID   BIGINT      NOT NULL,
+    CHANGE_SEQ  BIGINT      NOT NULL,
+    DELETED_AT  TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IDX_TOMBSTONES_CHANGE_SEQ_ID ON TOMBSTONES (CHANGE_SEQ, ID);
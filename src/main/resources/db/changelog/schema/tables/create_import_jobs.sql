@@ -0,0 +1,28 @@
+-- Streaming imports, COMMITTED_ROWS is updated in the transaction of every chunk and is the resume point
+CREATE TABLE IF NOT EXISTS IMPORT_JOBS
+(
+    ID             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    VERSION        BIGINT      NOT NULL DEFAULT 0,
+    STATUS         VARCHAR(20) NOT NULL,
+    FORMAT         VARCHAR(20) NOT NULL,
+    CREATED_BY_ID  BIGINT,
+    COMMITTED_ROWS BIGINT      NOT NULL DEFAULT 0,
+    CREATED_GROUPS BIGINT      NOT NULL DEFAULT 0,
+    CREATED_TASKS  BIGINT      NOT NULL DEFAULT 0,
+    FAILED_ROWS    BIGINT      NOT NULL DEFAULT 0,
+    MESSAGE        VARCHAR(1000),
+    CREATED_AT     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT     TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_IMPORT_JOB_CREATED_BY FOREIGN KEY (CREATED_BY_ID) REFERENCES USERS (ID) ON DELETE SET NULL
+);
+
+CREATE TABLE IF NOT EXISTS IMPORT_JOB_ERRORS
+(
+    ID      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    JOB_ID  BIGINT        NOT NULL,
+    ROW_NUM BIGINT        NOT NULL,
+    MESSAGE VARCHAR(1000) NOT NULL,
+    CONSTRAINT FK_IMPORT_JOB_ERROR_JOB FOREIGN KEY (JOB_ID) REFERENCES IMPORT_JOBS (ID) ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_IMPORT_JOB_ERRORS_JOB_ROW ON IMPORT_JOB_ERRORS (JOB_ID, ROW_NUM);
@@ -0,0 +1,16 @@
+-- Transactional outbox, events are inserted in the transaction of the change and deleted once dispatched,
+-- so the table holds only pending and FAILED events and dispatcher reads the head of (STATUS, ID) index
+CREATE TABLE IF NOT EXISTS OUTBOX_EVENTS
+(
+    ID             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    AGGREGATE_TYPE VARCHAR(20) NOT NULL,
+    AGGREGATE_ID   BIGINT,
+    EVENT_TYPE     VARCHAR(20) NOT NULL,
+    PAYLOAD        TEXT        NOT NULL,
+    STATUS         VARCHAR(20) NOT NULL,
+    ATTEMPTS       INT         NOT NULL DEFAULT 0,
+    LAST_ERROR     VARCHAR(1000),
+    CREATED_AT     TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE INDEX IDX_OUTBOX_EVENTS_STATUS_ID ON OUTBOX_EVENTS (STATUS, ID);
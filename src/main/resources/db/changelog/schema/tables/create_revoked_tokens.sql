@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS REVOKED_TOKENS
+(
+    JTI        VARCHAR(36) PRIMARY KEY,
+    EXPIRES_AT TIMESTAMP NOT NULL,
+    REVOKED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX IDX_REVOKED_TOKENS_EXPIRES_AT (EXPIRES_AT)
+);
@@ -0,0 +1,14 @@
+-- Append-only history of task fields, inserted asynchronously in multi-row batches, read per task newest first
+CREATE TABLE IF NOT EXISTS TASK_AUDIT
+(
+    ID         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    TASK_ID    BIGINT      NOT NULL,
+    VERSION    BIGINT      NOT NULL,
+    FIELD      VARCHAR(30) NOT NULL,
+    OLD_VALUE  TEXT,
+    NEW_VALUE  TEXT,
+    CHANGED_BY VARCHAR(255),
+    CHANGED_AT TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE INDEX IDX_TASK_AUDIT_TASK_ID_ID ON TASK_AUDIT (TASK_ID, ID);
@@ -0,0 +1,3 @@
+-- Sorting of task groups listing, ID and NAME are covered by primary key and unique constraint
+CREATE INDEX IDX_TASK_GROUPS_STATUS_ID ON TASK_GROUPS (STATUS, ID);
+CREATE INDEX IDX_TASK_GROUPS_CREATED_AT_ID ON TASK_GROUPS (CREATED_AT, ID);
@@ -0,0 +1,6 @@
+-- Keyset pagination of tasks listing, ordered by (UPDATED_AT, ID) with optional equality filter
+CREATE INDEX IDX_TASKS_UPDATED_AT_ID ON TASKS (UPDATED_AT, ID);
+CREATE INDEX IDX_TASKS_STATUS_UPDATED_AT_ID ON TASKS (STATUS, UPDATED_AT, ID);
+CREATE INDEX IDX_TASKS_ASSIGNED_TO_UPDATED_AT_ID ON TASKS (ASSIGNED_TO_ID, UPDATED_AT, ID);
+CREATE INDEX IDX_TASKS_CREATED_BY_UPDATED_AT_ID ON TASKS (CREATED_BY_ID, UPDATED_AT, ID);
+CREATE INDEX IDX_TASKS_GROUP_UPDATED_AT_ID ON TASKS (TASK_GROUP_ID, UPDATED_AT, ID);
@@ -0,0 +1,10 @@
+-- Pooled ID generator of TASKS (sequence emulated by table on MySQL), Hibernate reserves 50 IDs per round trip
+-- so inserts are not bound to AUTO_INCREMENT and could be sent as JDBC batch. Starts above existing IDs.
+CREATE TABLE IF NOT EXISTS TASKS_SEQ
+(
+    NEXT_VAL BIGINT NOT NULL
+);
+
+INSERT INTO TASKS_SEQ (NEXT_VAL)
+SELECT COALESCE(MAX(ID), 100) + 1000
+FROM TASKS;
@@ -0,0 +1,3 @@
+-- Named unique constraints, registration relies on them and maps violations by name
+ALTER TABLE USERS RENAME INDEX USERNAME TO UK_USERS_USERNAME;
+ALTER TABLE USERS RENAME INDEX EMAIL TO UK_USERS_EMAIL;
@@ -0,0 +1,171 @@
+package http.tasktracksystem.domain.audit;
+
+import http.tasktracksystem.domain.enums.AuditOverflowPolicy;
+import http.tasktracksystem.domain.events.TaskFieldsChangedEvent;
+import http.tasktracksystem.domain.repositories.TaskAuditRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class TaskAuditLogTest {
+
+    // longer than any flush by size takes, short enough for the writer to stop quickly on shutdown
+    private static final long LONG_INTERVAL = 2000L;
+
+    @Mock
+    private TaskAuditRepository taskAuditRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    private TaskAuditLog taskAuditLog;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        this.released.countDown();
+        this.taskAuditLog.shutdown();
+    }
+
+    @Test
+    void test_offer_dropNewestDropsEntryThatDoesNotFit() throws Exception {
+        fillWithBlockedWriter(AuditOverflowPolicy.DROP_NEWEST);
+
+        assertEquals(List.of("1", "2", "3"), awaitWritten(3));
+        assertEquals(1.0, dropped());
+    }
+
+    @Test
+    void test_offer_dropOldestDropsFirstBufferedEntry() throws Exception {
+        fillWithBlockedWriter(AuditOverflowPolicy.DROP_OLDEST);
+
+        assertEquals(List.of("1", "3", "4"), awaitWritten(3));
+        assertEquals(1.0, dropped());
+    }
+
+    @Test
+    void test_offer_blockWaitsForOfferTimeoutThenDrops() throws Exception {
+        long elapsed = fillWithBlockedWriter(AuditOverflowPolicy.BLOCK);
+
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(50), "offer did not wait");
+        assertEquals(List.of("1", "2", "3"), awaitWritten(3));
+        assertEquals(1.0, dropped());
+    }
+
+    @Test
+    void test_write_flushesWhenBatchSizeIsReached() throws Exception {
+        this.released.countDown();
+        this.taskAuditLog = auditLog(10, 3, LONG_INTERVAL, AuditOverflowPolicy.DROP_NEWEST);
+
+        long startedAt = System.nanoTime();
+        for (int i = 1; i <= 3; i++) {
+            this.taskAuditLog.onTaskFieldsChanged(change(i));
+        }
+
+        assertEquals(List.of("1", "2", "3"), awaitWritten(3));
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(LONG_INTERVAL / 2), "waited for interval");
+        assertEquals(List.of(List.of("1", "2", "3")), this.batches);
+    }
+
+    @Test
+    void test_write_flushesPartialBatchAfterInterval() throws Exception {
+        this.released.countDown();
+        this.taskAuditLog = auditLog(10, 100, 200L, AuditOverflowPolicy.DROP_NEWEST);
+
+        long startedAt = System.nanoTime();
+        this.taskAuditLog.onTaskFieldsChanged(change(1));
+        this.taskAuditLog.onTaskFieldsChanged(change(2));
+
+        assertEquals(List.of("1", "2"), awaitWritten(2));
+        assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(150), "flushed before interval");
+        assertEquals(1, this.batches.size());
+    }
+
+    @Test
+    void test_shutdown_drainsBufferedEntries() throws Exception {
+        this.released.countDown();
+        this.taskAuditLog = auditLog(10, 100, 300L, AuditOverflowPolicy.DROP_NEWEST);
+
+        for (int i = 1; i <= 3; i++) {
+            this.taskAuditLog.onTaskFieldsChanged(change(i));
+        }
+        this.taskAuditLog.shutdown();
+
+        assertEquals(List.of("1", "2", "3"), written());
+    }
+
+    /**
+     * Writer takes the first entry and blocks in insert, two more fill the buffer of size two and the fourth overflows.
+     *
+     * @return Duration of the overflowing offer in nanos.
+     */
+    private long fillWithBlockedWriter(AuditOverflowPolicy policy) throws InterruptedException {
+        this.taskAuditLog = auditLog(2, 1, LONG_INTERVAL, policy);
+
+        this.taskAuditLog.onTaskFieldsChanged(change(1));
+        assertTrue(this.writing.await(5, TimeUnit.SECONDS));
+        this.taskAuditLog.onTaskFieldsChanged(change(2));
+        this.taskAuditLog.onTaskFieldsChanged(change(3));
+
+        long startedAt = System.nanoTime();
+        this.taskAuditLog.onTaskFieldsChanged(change(4));
+        long elapsed = System.nanoTime() - startedAt;
+
+        this.released.countDown();
+        return elapsed;
+    }
+
+    private TaskAuditLog auditLog(int bufferSize,
+                                  int batchSize,
+                                  long flushIntervalInMils,
+                                  AuditOverflowPolicy policy) {
+        doAnswer(invocation -> {
+            List<TaskAuditEntry> batch = invocation.getArgument(0);
+            // the writer reuses the list, values are copied before it is cleared
+            this.batches.add(batch.stream().map(TaskAuditEntry::newValue).toList());
+            this.writing.countDown();
+            this.released.await();
+            return null;
+        }).when(this.taskAuditRepository).insertAll(anyList());
+        return new TaskAuditLog(this.taskAuditRepository, this.meterRegistry, bufferSize, batchSize,
+                flushIntervalInMils, policy, 50L);
+    }
+
+    private List<String> awaitWritten(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (written().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return written();
+    }
+
+    private List<String> written() {
+        return this.batches.stream().flatMap(List::stream).toList();
+    }
+
+    private double dropped() {
+        return this.meterRegistry.get("audit.dropped").counter().count();
+    }
+
+    private static TaskFieldsChangedEvent change(int value) {
+        TaskSnapshot before = new TaskSnapshot("title", null, null, null, null, null);
+        TaskSnapshot after = new TaskSnapshot(String.valueOf(value), null, null, null, null, null);
+        return new TaskFieldsChangedEvent(1L, (long) value, before, after, Instant.now());
+    }
+}
@@ -0,0 +1,106 @@
+package http.tasktracksystem.domain.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String SELECT_NODE = "SELECT NAME FROM NODE";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2Database("primary");
+        DataSource replica = h2Database("replica");
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(tracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primary,
+                DataSourceRoute.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void test_readOnlyTransaction_goesToReplica() {
+        authenticate("reader");
+
+        assertEquals("replica", this.readOnlyTransaction.execute(status -> readNode()));
+        assertEquals("primary", this.writeTransaction.execute(status -> readNode()));
+    }
+
+    @Test
+    void test_readOnlyTransaction_afterOwnWrite_staysOnPrimary() {
+        authenticate("writer");
+        this.writeTransaction.executeWithoutResult(status -> this.jdbcTemplate.update("UPDATE NODE SET NAME = NAME"));
+
+        assertEquals("primary", this.readOnlyTransaction.execute(status -> readNode()));
+
+        authenticate("reader");
+        assertEquals("replica", this.readOnlyTransaction.execute(status -> readNode()));
+    }
+
+    @Test
+    void test_rolledBackWrite_isNotSticky() {
+        authenticate("writer");
+        this.writeTransaction.executeWithoutResult(status -> {
+            this.jdbcTemplate.update("UPDATE NODE SET NAME = NAME");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", this.readOnlyTransaction.execute(status -> readNode()));
+    }
+
+    private String readNode() {
+        return this.jdbcTemplate.queryForObject(SELECT_NODE, String.class);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static DataSource h2Database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE NODE (NAME VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO NODE (NAME) VALUES (?)", name);
+        return dataSource;
+    }
+}
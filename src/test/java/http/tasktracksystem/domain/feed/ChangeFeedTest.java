@@ -0,0 +1,89 @@
+package http.tasktracksystem.domain.feed;
+
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+import http.tasktracksystem.domain.enums.ChangeType;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeFeedTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    private ChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        SseEmitter blockingEmitter = new SseEmitter() {
+            // holds the emitter monitor while blocked, as send to a stalled client does
+            @Override
+            public synchronized void send(SseEventBuilder builder) throws IOException {
+                sending.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public synchronized void complete() {
+                completed.countDown();
+                super.complete();
+            }
+        };
+        this.changeFeed = new ChangeFeed(this.meterRegistry, 1, 60000L, 1, 10, 60000L, 5L) {
+            @Override
+            SseEmitter newEmitter() {
+                return blockingEmitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.released.countDown();
+        this.changeFeed.shutdown();
+    }
+
+    @Test
+    void test_onChange_fullBufferDoesNotWaitForBlockedSend() throws Exception {
+        this.changeFeed.subscribe(null, null);
+        this.changeFeed.onChange(change(1L));
+        assertTrue(this.sending.await(5, TimeUnit.SECONDS));
+
+        // second event fills the buffer of size one, third overflows it while the send is still blocked
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            this.changeFeed.onChange(change(2L));
+            this.changeFeed.onChange(change(3L));
+        });
+
+        assertEquals(1.0, this.meterRegistry.get("changes.dropped").counter().count());
+        assertEquals(1L, this.completed.getCount());
+
+        this.released.countDown();
+
+        assertTrue(this.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static DomainChangeEvent change(Long taskId) {
+        return new DomainChangeEvent(ChangeEntityType.TASK, ChangeType.UPDATED, taskId, 1L,
+                null, null, null, null, null, Instant.now());
+    }
+}
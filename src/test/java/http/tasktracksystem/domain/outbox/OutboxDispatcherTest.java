@@ -0,0 +1,113 @@
+package http.tasktracksystem.domain.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import http.tasktracksystem.domain.entities.OutboxEventEntity;
+import http.tasktracksystem.domain.enums.ChangeEntityType;
+import http.tasktracksystem.domain.enums.ChangeType;
+import http.tasktracksystem.domain.enums.OutboxStatus;
+import http.tasktracksystem.domain.events.DomainChangeEvent;
+import http.tasktracksystem.domain.repositories.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> handled = new ArrayList<>();
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        OutboxHandler failingForTaskOne = message -> {
+            if (message.event().id() == 1L) {
+                throw new IllegalStateException("unavailable");
+            }
+            this.handled.add(message.id());
+        };
+        this.outboxDispatcher = new OutboxDispatcher(this.outboxEventRepository, List.of(failingForTaskOne), OBJECT_MAPPER,
+                this.transactionManager, new SimpleMeterRegistry(), 10, 2);
+    }
+
+    @Test
+    void test_dispatch_failedAggregateHeldBackOthersDeleted() throws Exception {
+        OutboxEventEntity first = event(1L, 1L);
+        OutboxEventEntity second = event(2L, 2L);
+        OutboxEventEntity third = event(3L, 1L);
+        when(this.outboxEventRepository.findByStatusOrderByIdAsc(eq(OutboxStatus.PENDING), any(Limit.class)))
+                .thenReturn(List.of(first, second, third));
+
+        this.outboxDispatcher.dispatch();
+
+        assertEquals(List.of(2L), this.handled);
+        assertEquals(1, first.getAttempts());
+        assertEquals(0, third.getAttempts());
+        verify(this.outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    void test_dispatch_maxAttemptsMarksFailedAndAggregateContinues() throws Exception {
+        OutboxEventEntity first = event(1L, 1L);
+        first.setAttempts(1);
+        when(this.outboxEventRepository.findByStatusOrderByIdAsc(eq(OutboxStatus.PENDING), any(Limit.class)))
+                .thenReturn(List.of(first, event(2L, 2L)));
+
+        this.outboxDispatcher.dispatch();
+
+        assertEquals(OutboxStatus.FAILED, first.getStatus());
+        verify(this.outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(2L));
+    }
+
+    @Test
+    void test_dispatch_fullBatchWithFailureEndsRun() throws Exception {
+        OutboxDispatcher fullBatches = new OutboxDispatcher(this.outboxEventRepository, List.of(message -> {
+            if (message.event().id() == 1L) {
+                throw new IllegalStateException("unavailable");
+            }
+        }), OBJECT_MAPPER, this.transactionManager, new SimpleMeterRegistry(), 2, 10);
+        when(this.outboxEventRepository.findByStatusOrderByIdAsc(eq(OutboxStatus.PENDING), any(Limit.class)))
+                .thenReturn(List.of(event(1L, 1L), event(2L, 2L)));
+
+        fullBatches.dispatch();
+
+        verify(this.outboxEventRepository, times(1)).findByStatusOrderByIdAsc(eq(OutboxStatus.PENDING), any(Limit.class));
+    }
+
+    private static OutboxEventEntity event(Long id,
+                                           Long taskId) throws Exception {
+        DomainChangeEvent change = new DomainChangeEvent(ChangeEntityType.TASK, ChangeType.UPDATED, taskId, 1L,
+                null, null, null, null, null, Instant.now());
+        return OutboxEventEntity.builder()
+                .id(id)
+                .aggregateType(change.entity())
+                .aggregateId(change.id())
+                .eventType(change.type())
+                .payload(OBJECT_MAPPER.writeValueAsString(change))
+                .status(OutboxStatus.PENDING)
+                .createdAt(change.occurredAt())
+                .build();
+    }
+}
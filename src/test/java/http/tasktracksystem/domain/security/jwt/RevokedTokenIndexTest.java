@@ -0,0 +1,50 @@
+package http.tasktracksystem.domain.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokenIndexTest {
+
+    @Test
+    void test_isRevoked_onlyForAddedTokens() {
+        RevokedTokenIndex index = new RevokedTokenIndex(1000);
+        String revoked = UUID.randomUUID().toString();
+        index.add(revoked, Instant.now().plusSeconds(60));
+
+        assertTrue(index.isRevoked(revoked));
+        assertFalse(index.isRevoked(UUID.randomUUID().toString()));
+        assertFalse(index.isRevoked(null));
+    }
+
+    @Test
+    void test_rebuild_skipsExpiredTokens() {
+        RevokedTokenIndex index = new RevokedTokenIndex(1000);
+        String active = UUID.randomUUID().toString();
+        String expired = UUID.randomUUID().toString();
+
+        index.rebuild(Map.of(
+                active, Instant.now().plusSeconds(60),
+                expired, Instant.now().minusSeconds(60)));
+
+        assertTrue(index.isRevoked(active));
+        assertFalse(index.isRevoked(expired));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void test_add_overCapacityKeepsAllTokens() {
+        RevokedTokenIndex index = new RevokedTokenIndex(10);
+        for (int i = 0; i < 50; i++) {
+            index.add("jti-" + i, Instant.now().plusSeconds(60));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(index.isRevoked("jti-" + i));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package http.tasktracksystem.domain.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import http.tasktracksystem.domain.dtos.requests.TaskBatchCreateRequest;
+import http.tasktracksystem.domain.dtos.requests.TaskGroupRequest;
+import http.tasktracksystem.domain.dtos.responses.ImportJobResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskBatchItemResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskBatchResponse;
+import http.tasktracksystem.domain.entities.ImportJobEntity;
+import http.tasktracksystem.domain.entities.ImportJobErrorEntity;
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.ImportJobStatus;
+import http.tasktracksystem.domain.exceptions.custom.InvalidRequestException;
+import http.tasktracksystem.domain.repositories.ImportJobErrorRepository;
+import http.tasktracksystem.domain.repositories.ImportJobRepository;
+import http.tasktracksystem.domain.security.user.AppUserDetails;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.TASK_GROUP_NAME_NOT_FOUND;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    private static final Long JOB_ID = 7L;
+    private static final AppUserDetails CREATOR = new AppUserDetails(1L, "admin", "admin@mail.com", "password", List.of());
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private ImportJobErrorRepository importJobErrorRepository;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskGroupService taskGroupService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportService importService;
+
+    private ImportJobEntity job;
+
+    @BeforeEach
+    void setUp() {
+        this.importService = new ImportService(this.importJobRepository, this.importJobErrorRepository, this.taskService,
+                this.taskGroupService, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                this.transactionManager, 2, 10);
+        this.job = ImportJobEntity.builder()
+                .id(JOB_ID)
+                .version(0L)
+                .status(ImportJobStatus.PENDING)
+                .format(DataFormat.NDJSON)
+                .build();
+        when(this.transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(this.importJobRepository.findById(JOB_ID)).thenReturn(Optional.of(this.job));
+    }
+
+    @Test
+    void test_upload_createsGroupsBeforeTasksOfChunkAndStoresRowErrors() {
+        when(this.taskGroupService.createAll(List.of(new TaskGroupRequest("Project A", null))))
+                .thenReturn(List.of(TaskBatchItemResponse.created(0, 3L)));
+        when(this.taskGroupService.getTaskGroupIdsByNames(any()))
+                .thenReturn(Map.of("Project A", 3L));
+        when(this.taskService.createBatch(any(TaskBatchCreateRequest.class), eq(CREATOR)))
+                .thenReturn(new TaskBatchResponse(1, 0, List.of(TaskBatchItemResponse.created(0, 11L))));
+        when(this.importJobErrorRepository.findAllByJobIdOrderByRowNumber(JOB_ID)).thenReturn(List.of());
+
+        String body = """
+                {"type":"task","title":"First task","description":"desc","taskGroupName":"Project A"}
+                {"type":"group","name":"Project A"}
+                {"type":"task","title":"Second task","description":"desc","taskGroupName":"Unknown"}
+                """;
+        ImportJobResponse response = this.importService.upload(JOB_ID, input(body), CREATOR);
+
+        assertEquals(ImportJobStatus.COMPLETED, response.status());
+        assertEquals(3, response.committedRows());
+        assertEquals(1, response.createdGroups());
+        assertEquals(1, response.createdTasks());
+        assertEquals(1, response.failedRows());
+
+        ArgumentCaptor<TaskBatchCreateRequest> tasks = ArgumentCaptor.forClass(TaskBatchCreateRequest.class);
+        verify(this.taskService, times(1)).createBatch(tasks.capture(), eq(CREATOR));
+        assertEquals(3L, tasks.getValue().tasks().getFirst().taskGroupId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImportJobErrorEntity>> errors = ArgumentCaptor.forClass(List.class);
+        verify(this.importJobErrorRepository, times(2)).saveAll(errors.capture());
+        ImportJobErrorEntity error = errors.getAllValues().get(1).getFirst();
+        assertEquals(3, error.getRowNumber());
+        assertEquals(formatRow(TASK_GROUP_NAME_NOT_FOUND, "Unknown"), error.getMessage());
+    }
+
+    @Test
+    void test_upload_groupNameMatchedRegardlessOfCase() {
+        when(this.taskGroupService.getTaskGroupIdsByNames(any()))
+                .thenReturn(Map.of("Project A", 3L));
+        when(this.taskService.createBatch(any(TaskBatchCreateRequest.class), eq(CREATOR)))
+                .thenReturn(new TaskBatchResponse(1, 0, List.of(TaskBatchItemResponse.created(0, 11L))));
+        when(this.importJobErrorRepository.findAllByJobIdOrderByRowNumber(JOB_ID)).thenReturn(List.of());
+
+        String body = """
+                {"type":"task","title":"First task","description":"desc","taskGroupName":"PROJECT a"}
+                """;
+        ImportJobResponse response = this.importService.upload(JOB_ID, input(body), CREATOR);
+
+        assertEquals(ImportJobStatus.COMPLETED, response.status());
+        assertEquals(0, response.failedRows());
+
+        ArgumentCaptor<TaskBatchCreateRequest> tasks = ArgumentCaptor.forClass(TaskBatchCreateRequest.class);
+        verify(this.taskService, times(1)).createBatch(tasks.capture(), eq(CREATOR));
+        assertEquals(3L, tasks.getValue().tasks().getFirst().taskGroupId());
+    }
+
+    @Test
+    void test_upload_resumeSkipsCommittedRowsAfterFailure() {
+        this.job.setStatus(ImportJobStatus.FAILED);
+        this.job.setCommittedRows(2);
+        when(this.taskGroupService.createAll(List.of(new TaskGroupRequest("Project C", null))))
+                .thenReturn(List.of(TaskBatchItemResponse.created(0, 5L)));
+        when(this.importJobErrorRepository.findAllByJobIdOrderByRowNumber(JOB_ID)).thenReturn(List.of());
+
+        String body = """
+                {"type":"group","name":"Project A"}
+                {"type":"group","name":"Project B"}
+                {"type":"group","name":"Project C"}
+                """;
+        ImportJobResponse response = this.importService.upload(JOB_ID, input(body), CREATOR);
+
+        assertEquals(ImportJobStatus.COMPLETED, response.status());
+        assertEquals(3, response.committedRows());
+        assertEquals(1, response.createdGroups());
+        verify(this.taskGroupService, times(1)).createAll(any());
+    }
+
+    @Test
+    void test_upload_shouldThrowWhenJobIsCompleted() {
+        this.job.setStatus(ImportJobStatus.COMPLETED);
+
+        assertThrows(InvalidRequestException.class,
+                () -> this.importService.upload(JOB_ID, input(""), CREATOR));
+        verifyNoInteractions(this.taskService, this.taskGroupService);
+    }
+
+    private static ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package http.tasktracksystem.domain.services;
+
+import http.tasktracksystem.domain.entities.RoleEntity;
+import http.tasktracksystem.domain.enums.RoleType;
+import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.repositories.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoleServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleService roleService;
+
+    @Test
+    void test_findAllByNames_loadsRegistryOnce() {
+        RoleEntity user = role(1L, RoleType.ROLE_USER.name());
+        RoleEntity admin = role(2L, RoleType.ROLE_ADMIN.name());
+        when(this.roleRepository.findAll()).thenReturn(List.of(user, admin));
+
+        assertEquals(user, this.roleService.findUserRole());
+        assertEquals(Set.of(user, admin), this.roleService.findAllByNames(Set.of(RoleType.ROLE_USER, RoleType.ROLE_ADMIN)));
+        assertEquals(Set.of(admin), this.roleService.findAllByNames(Set.of(RoleType.ROLE_ADMIN)));
+
+        verify(this.roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void test_findAllByNames_missingRole_refreshesAndThrows() {
+        when(this.roleRepository.findAll()).thenReturn(List.of(role(1L, RoleType.ROLE_USER.name())));
+
+        assertThrows(NotFoundException.class, () -> this.roleService.findAllByNames(Set.of(RoleType.ROLE_ADMIN)));
+
+        verify(this.roleRepository, times(2)).findAll();
+    }
+
+    private static RoleEntity role(Long id, String name) {
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+        role.setName(name);
+        return role;
+    }
+}
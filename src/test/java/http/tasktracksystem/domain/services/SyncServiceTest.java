@@ -0,0 +1,79 @@
+package http.tasktracksystem.domain.services;
+
+import http.tasktracksystem.domain.dtos.responses.SyncResponse;
+import http.tasktracksystem.domain.dtos.responses.TaskResponse;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository.Changed;
+import http.tasktracksystem.domain.utils.pagination.SyncToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private static final int MAX_CHANGES = 2;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        this.syncService = new SyncService(this.changeLogRepository, MAX_CHANGES, 300000L);
+        lenient().when(this.changeLogRepository.findTaskGroups(anyLong(), anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+        lenient().when(this.changeLogRepository.findTombstones(anyLong(), anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void test_changesSince_pageEndsBeforeSplitChangeSequence() {
+        when(this.changeLogRepository.current()).thenReturn(10L);
+        when(this.changeLogRepository.findTasks(4L, 0L, 10L, MAX_CHANGES + 1))
+                .thenReturn(List.of(task(1L, 4L), task(2L, 5L), task(3L, 5L)));
+
+        SyncResponse response = this.syncService.changesSince(new SyncToken(3L).encode());
+
+        assertEquals(List.of(1L), response.tasks().stream().map(TaskResponse::id).toList());
+        assertTrue(response.hasMore());
+        assertEquals(4L, SyncToken.decode(response.nextToken()).changeSeq());
+    }
+
+    @Test
+    void test_changesSince_changeSequenceOverLimitPagedById() {
+        when(this.changeLogRepository.current()).thenReturn(5L);
+        when(this.changeLogRepository.findTasks(0L, 0L, 5L, MAX_CHANGES + 1))
+                .thenReturn(List.of(task(1L, 5L), task(2L, 5L), task(3L, 5L)));
+        when(this.changeLogRepository.findTasks(5L, 2L, 5L, MAX_CHANGES + 1))
+                .thenReturn(List.of(task(3L, 5L), task(4L, 5L)));
+
+        SyncResponse first = this.syncService.changesSince(null);
+        SyncToken firstToken = SyncToken.decode(first.nextToken());
+
+        assertEquals(List.of(1L, 2L), first.tasks().stream().map(TaskResponse::id).toList());
+        assertTrue(first.hasMore());
+        assertEquals(new SyncToken(4L, 2L, 0L, 0L), firstToken);
+
+        SyncResponse second = this.syncService.changesSince(first.nextToken());
+
+        assertEquals(List.of(3L, 4L), second.tasks().stream().map(TaskResponse::id).toList());
+        assertFalse(second.hasMore());
+        assertEquals(new SyncToken(5L), SyncToken.decode(second.nextToken()));
+    }
+
+    private static Changed<TaskResponse> task(Long id,
+                                              long changeSeq) {
+        return new Changed<>(changeSeq, id, TaskResponse.builder().id(id).build());
+    }
+}
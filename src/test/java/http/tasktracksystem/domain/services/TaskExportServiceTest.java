@@ -0,0 +1,70 @@
+package http.tasktracksystem.domain.services;
+
+import http.tasktracksystem.domain.enums.DataFormat;
+import http.tasktracksystem.domain.enums.TaskExportColumn;
+import http.tasktracksystem.domain.repositories.TaskExportRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    private static final List<TaskExportColumn> COLUMNS = List.of(TaskExportColumn.ID, TaskExportColumn.TITLE);
+
+    @Mock
+    private TaskExportRepository taskExportRepository;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @InjectMocks
+    private TaskExportService taskExportService;
+
+    @Test
+    void test_export_ndjson_writesObjectPerLine() throws Exception {
+        streamRows();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = this.taskExportService.export(DataFormat.NDJSON, COLUMNS, output);
+
+        assertEquals(2, exported);
+        assertEquals("{\"id\":1,\"title\":\"first\"}\n{\"id\":2,\"title\":null}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void test_export_csv_writesHeaderAndRows() throws Exception {
+        streamRows();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = this.taskExportService.export(DataFormat.CSV, COLUMNS, output);
+
+        assertEquals(2, exported);
+        assertEquals("id,title\n1,first\n2,\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    private void streamRows() throws Exception {
+        when(this.resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(this.resultSet.getString(2)).thenReturn("first").thenReturn(null);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(this.resultSet);
+            handler.processRow(this.resultSet);
+            return null;
+        }).when(this.taskExportRepository).streamAll(eq(COLUMNS), any(RowCallbackHandler.class));
+    }
+}
@@ -7,21 +7,30 @@ import http.tasktracksystem.domain.entities.TaskEntity;
 import http.tasktracksystem.domain.entities.TaskGroupEntity;
 import http.tasktracksystem.domain.entities.UserEntity;
 import http.tasktracksystem.domain.enums.TaskStatus;
+import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.exceptions.custom.PreconditionFailedException;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository;
 import http.tasktracksystem.domain.repositories.TaskRepository;
+import http.tasktracksystem.domain.security.user.AppUserDetails;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +46,12 @@ class TaskServiceTest {
     @Mock
     private TaskGroupService taskGroupService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
     @InjectMocks
     private TaskService taskServiceTest;
 
@@ -47,11 +62,15 @@ class TaskServiceTest {
         final TaskStatus status = TaskStatus.IN_PROGRESS;
         final String taskDescription = "Task description";
 
+        final Long creatorId = 10L;
+
         UserEntity creator = new UserEntity();
+        creator.setId(creatorId);
         creator.setUsername(username);
 
         TaskEntity newTask = new TaskEntity();
         newTask.setId(1L);
+        newTask.setVersion(0L);
         newTask.setTitle(taskTitle);
         newTask.setStatus(status);
         newTask.setCreatedBy(creator);
@@ -64,13 +83,13 @@ class TaskServiceTest {
                 .status(status)
                 .build();
 
-        when(this.userService.getUserByUsername(username)).thenReturn(creator);
-        when(this.taskRepository.saveAndFlush(any(TaskEntity.class))).thenReturn(newTask);
+        when(this.userService.getUserReference(creatorId)).thenReturn(creator);
+        when(this.taskRepository.save(any(TaskEntity.class))).thenReturn(newTask);
 
-        ApiResponse<Map<String, Object>> response = this.taskServiceTest.create(request, username);
+        ApiResponse<Map<String, Object>> response = this.taskServiceTest.create(request, userDetails(creatorId, username));
 
 
-        verify(this.taskRepository, times(1)).saveAndFlush(any(TaskEntity.class));
+        verify(this.taskRepository, times(1)).save(any(TaskEntity.class));
 
         assertNotNull(response);
         assertEquals(CREATE_TASK, response.message());
@@ -96,6 +115,7 @@ class TaskServiceTest {
 
         TaskEntity task = new TaskEntity();
         task.setId(taskId);
+        task.setVersion(0L);
         task.setTitle("Task Title");
         task.setStatus(TaskStatus.IN_PROGRESS);
         task.setCreatedAt(Instant.now());
@@ -104,14 +124,14 @@ class TaskServiceTest {
 
         when(userService.getUserByUsername(assigneeUsername)).thenReturn(assignee);
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(taskRepository.saveAndFlush(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.save(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        ApiResponse<Map<String, Object>> response = taskServiceTest.assignTo(taskId, assigneeUsername, loggedInUsername);
+        ApiResponse<Map<String, Object>> response = taskServiceTest.assignTo(taskId, assigneeUsername, loggedInUsername, null);
 
         ArgumentCaptor<TaskEntity> taskCaptor = ArgumentCaptor.forClass(TaskEntity.class);
         verify(userService).getUserByUsername(assigneeUsername);
         verify(taskRepository).findById(taskId);
-        verify(taskRepository).saveAndFlush(taskCaptor.capture());
+        verify(taskRepository).save(taskCaptor.capture());
 
         TaskEntity savedTask = taskCaptor.getValue();
         assertEquals(assigneeUsername, savedTask.getAssignedTo().getUsername());
@@ -135,13 +155,17 @@ class TaskServiceTest {
         final String taskDescription = "Task description";
         final Long taskGroupId = 1L;
 
+        final Long creatorId = 10L;
+
         UserEntity creator = new UserEntity();
+        creator.setId(creatorId);
         creator.setUsername(username);
         UserEntity assignee = new UserEntity();
         assignee.setUsername(assignTo);
 
         TaskEntity newTask = new TaskEntity();
         newTask.setId(1L);
+        newTask.setVersion(0L);
         newTask.setTitle(taskTitle);
         newTask.setStatus(status);
         newTask.setCreatedBy(creator);
@@ -157,15 +181,15 @@ class TaskServiceTest {
                 .taskGroupId(taskGroupId)
                 .build();
 
-        when(this.userService.getUserByUsername(username)).thenReturn(creator);
+        when(this.userService.getUserReference(creatorId)).thenReturn(creator);
         when(this.userService.getUserByUsername(assignTo)).thenReturn(assignee);
-        when(this.taskGroupService.getTaskGroupById(taskGroupId)).thenReturn(new TaskGroupEntity());
-        when(this.taskRepository.saveAndFlush(any(TaskEntity.class))).thenReturn(newTask);
+        when(this.taskGroupService.getTaskGroupReference(taskGroupId)).thenReturn(new TaskGroupEntity());
+        when(this.taskRepository.save(any(TaskEntity.class))).thenReturn(newTask);
 
-        ApiResponse<Map<String, Object>> response = this.taskServiceTest.create(request, username);
+        ApiResponse<Map<String, Object>> response = this.taskServiceTest.create(request, userDetails(creatorId, username));
 
         ArgumentCaptor<TaskEntity> taskCaptor = ArgumentCaptor.forClass(TaskEntity.class);
-        verify(this.taskRepository).saveAndFlush(taskCaptor.capture());
+        verify(this.taskRepository).save(taskCaptor.capture());
 
         TaskEntity capturedTask = taskCaptor.getValue();
         assertNotNull(capturedTask);
@@ -200,20 +224,21 @@ class TaskServiceTest {
 
         TaskEntity task = new TaskEntity();
         task.setId(taskId);
+        task.setVersion(0L);
         task.setTitle("My Task");
         task.setCreatedBy(creator);
 
         when(taskGroupService.getTaskGroupById(taskGroupId)).thenReturn(taskGroup);
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(taskRepository.saveAndFlush(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.save(any(TaskEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        ApiResponse<Map<String, Object>> response = taskServiceTest.addToGroup(taskId, taskGroupId, addedBy);
+        ApiResponse<Map<String, Object>> response = taskServiceTest.addToGroup(taskId, taskGroupId, addedBy, null);
 
         ArgumentCaptor<TaskEntity> taskCaptor = ArgumentCaptor.forClass(TaskEntity.class);
 
         verify(taskGroupService).getTaskGroupById(taskGroupId);
         verify(taskRepository).findById(taskId);
-        verify(taskRepository).saveAndFlush(taskCaptor.capture());
+        verify(taskRepository).save(taskCaptor.capture());
 
         TaskEntity savedTask = taskCaptor.getValue();
         assertEquals(taskGroup, savedTask.getTaskGroup());
@@ -251,6 +276,7 @@ class TaskServiceTest {
 
         TaskEntity existingTask = new TaskEntity();
         existingTask.setId(taskId);
+        existingTask.setVersion(0L);
         existingTask.setTitle("Old Title");
         existingTask.setStatus(TaskStatus.TODO);
         existingTask.setDescription("Old Description");
@@ -258,11 +284,11 @@ class TaskServiceTest {
         existingTask.setUpdatedAt(Instant.now().minusSeconds(3600));
 
         when(this.taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(this.userService.getUserById(createdById)).thenReturn(creator);
-        when(this.userService.getUserById(assignedToId)).thenReturn(assignee);
+        when(this.userService.getUserReference(createdById)).thenReturn(creator);
+        when(this.userService.getUserReference(assignedToId)).thenReturn(assignee);
 
 
-        when(this.taskRepository.saveAndFlush(any(TaskEntity.class)))
+        when(this.taskRepository.save(any(TaskEntity.class)))
                 .thenAnswer(invocation -> {
                     TaskEntity savedTask = invocation.getArgument(0);
                     savedTask.setId(taskId);
@@ -277,12 +303,12 @@ class TaskServiceTest {
                 .assignedToId(assignedToId)
                 .build();
 
-        ApiResponse<Map<String, Object>> response = this.taskServiceTest.update(taskId, updateRequest);
+        ApiResponse<Map<String, Object>> response = this.taskServiceTest.update(taskId, updateRequest, 0L);
 
         verify(this.taskRepository).findById(taskId);
-        verify(this.userService).getUserById(createdById);
-        verify(this.userService).getUserById(assignedToId);
-        verify(this.taskRepository).saveAndFlush(any(TaskEntity.class));
+        verify(this.userService).getUserReference(createdById);
+        verify(this.userService).getUserReference(assignedToId);
+        verify(this.taskRepository).save(any(TaskEntity.class));
 
         assertNotNull(response);
         assertEquals(UPDATE_TASK, response.message());
@@ -297,4 +323,53 @@ class TaskServiceTest {
         assertNotNull(data.get(CREATED_AT));
         assertNotNull(data.get(UPDATED_AT));
     }
-}
\ No newline at end of file
+
+    @Test
+    void test_update_failsWhenIfMatchVersionIsStale() {
+        final Long taskId = 1L;
+
+        TaskEntity existingTask = new TaskEntity();
+        existingTask.setId(taskId);
+        existingTask.setVersion(3L);
+
+        when(this.taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        TaskUpdateRequest updateRequest = TaskUpdateRequest.builder()
+                .title("Updated Title")
+                .status(TaskStatus.DONE)
+                .build();
+
+        assertThrows(PreconditionFailedException.class, () -> this.taskServiceTest.update(taskId, updateRequest, 2L));
+        verify(this.taskRepository, never()).save(any(TaskEntity.class));
+    }
+
+    @Test
+    void test_update_missingAssigneeReference_mapsForeignKeyViolationToNotFound() {
+        final Long taskId = 1L;
+        final Long assignedToId = 404L;
+
+        TaskEntity existingTask = new TaskEntity();
+        existingTask.setId(taskId);
+        existingTask.setVersion(0L);
+
+        when(this.taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(this.userService.getUserReference(assignedToId)).thenReturn(new UserEntity());
+        doThrow(new DataIntegrityViolationException("Cannot add or update a child row: a foreign key constraint fails " +
+                "(CONSTRAINT `FK_TASK_ASSIGNED_TO` FOREIGN KEY (`ASSIGNED_TO_ID`) REFERENCES `USERS` (`ID`))"))
+                .when(this.taskRepository).flush();
+
+        TaskUpdateRequest updateRequest = TaskUpdateRequest.builder()
+                .title("Updated Title")
+                .status(TaskStatus.DONE)
+                .assignedToId(assignedToId)
+                .build();
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> this.taskServiceTest.update(taskId, updateRequest, null));
+        assertEquals(formatRow(USER_ID_NOT_FOUND, assignedToId), exception.getMessage());
+    }
+
+    private static AppUserDetails userDetails(Long id, String username) {
+        return new AppUserDetails(id, username, username + "@mail.com", "password", List.of());
+    }
+}
@@ -5,14 +5,18 @@ import http.tasktracksystem.domain.dtos.responses.ApiResponse;
 import http.tasktracksystem.domain.dtos.responses.UserSecurityDto;
 import http.tasktracksystem.domain.entities.RoleEntity;
 import http.tasktracksystem.domain.entities.UserEntity;
+import http.tasktracksystem.domain.events.UserSecurityChangedEvent;
 import http.tasktracksystem.domain.exceptions.custom.AlreadyExistsException;
 import http.tasktracksystem.domain.exceptions.custom.NotFoundException;
+import http.tasktracksystem.domain.repositories.ChangeLogRepository;
 import http.tasktracksystem.domain.repositories.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -22,6 +26,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static http.tasktracksystem.domain.utils.responses.GeneralTemplates.*;
+import static http.tasktracksystem.domain.utils.responses.GeneralUtils.formatRow;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +42,12 @@ class UserServiceTest {
     @Mock
     private  RoleService roleService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
     @InjectMocks
     private UserService userServiceTest;
 
@@ -130,26 +141,32 @@ class UserServiceTest {
 
     @Test
     void test_registerUser_shouldThrowWithExistingUsername() {
-        final String username = "not-found-username";
+        final String username = "existing-username";
         final String email = "not-found-email";
         final String password = "fake-pass";
         UserRegisterRequest request = new UserRegisterRequest(username, email, password);
-        when(this.userRepository.existsByUsername(username))
-                .thenReturn(true);
-        assertThrows(AlreadyExistsException.class,
+        when(this.roleService.findUserRole()).thenReturn(new RoleEntity());
+        doThrow(new DataIntegrityViolationException("Duplicate entry 'existing-username' for key 'users.UK_USERS_USERNAME'"))
+                .when(this.userRepository).flush();
+
+        AlreadyExistsException exception = assertThrows(AlreadyExistsException.class,
                 () -> this.userServiceTest.registerUser(request));
+        assertEquals(formatRow(USER_USERNAME_EXISTS, username), exception.getMessage());
     }
 
     @Test
     void test_registerUser_shouldThrowWithExistingEmail() {
         final String username = "not-found-username";
-        final String email = "not-found-email";
+        final String email = "existing-email";
         final String password = "fake-pass";
         UserRegisterRequest request = new UserRegisterRequest(username, email, password);
-        when(this.userRepository.existsByEmail(email))
-                .thenReturn(true);
-        assertThrows(AlreadyExistsException.class,
+        when(this.roleService.findUserRole()).thenReturn(new RoleEntity());
+        doThrow(new DataIntegrityViolationException("Duplicate entry 'existing-email' for key 'users.UK_USERS_EMAIL'"))
+                .when(this.userRepository).flush();
+
+        AlreadyExistsException exception = assertThrows(AlreadyExistsException.class,
                 () -> this.userServiceTest.registerUser(request));
+        assertEquals(formatRow(USER_EMAIL_EXISTS, email), exception.getMessage());
     }
 
     @Test
@@ -170,11 +187,9 @@ class UserServiceTest {
         savedUser.addRole(role);
 
 
-        when(this.userRepository.existsByEmail(email)).thenReturn(false);
-        when(this.userRepository.existsByUsername(username)).thenReturn(false);
         when(this.passwordEncoder.encode(password)).thenReturn("encoded-pass");
         when(this.roleService.findUserRole()).thenReturn(role);
-        when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(savedUser);
+        when(userRepository.save(any(UserEntity.class))).thenReturn(savedUser);
 
         ApiResponse<Map<String, Object>> response = this.userServiceTest.registerUser(request);
 
@@ -184,7 +199,7 @@ class UserServiceTest {
         assertEquals(username, response.data().get(USERNAME));
         assertEquals(email, response.data().get(EMAIL));
         verify(this.userRepository, times(1))
-                .saveAndFlush(any(UserEntity.class));
+                .save(any(UserEntity.class));
     }
 
     @Test
@@ -206,6 +221,8 @@ class UserServiceTest {
                 .findById(userId);
         verify(this.userRepository, times(1))
                 .delete(toDelete);
+        verify(this.eventPublisher, times(1))
+                .publishEvent(any(UserSecurityChangedEvent.class));
     }
 
     @Test